@@ -14,8 +14,10 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
+import io.micrometer.context.ContextRegistry;
 import jakarta.annotation.PostConstruct;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 /**
  * CorrelationIdFilter - Global filter for request tracking
@@ -31,8 +33,14 @@ import reactor.core.publisher.Mono;
  * 2. If not present, generate new UUID
  * 3. Add correlation ID to request header (forward to services)
  * 4. Add correlation ID to response header (return to client)
- * 5. Store in MDC for logging context
- * 6. Clean up MDC after request completes
+ * 5. Store in the Reactor context of the request
+ *
+ * The ID lives in the Reactor context rather than MDC: a reactive request
+ * hops between threads, so a thread-bound MDC entry would show up in logs of
+ * other requests. With spring.reactor.context-propagation=auto the accessor
+ * registered in init() copies it into MDC around each operator and removes
+ * it afterwards. Trace/span IDs are propagated to services by Micrometer
+ * Tracing; X-Correlation-Id travels with them as baggage.
  */
 @Component
 public class CorrelationIdFilter implements GlobalFilter, Ordered {
@@ -53,6 +61,12 @@ public class CorrelationIdFilter implements GlobalFilter, Ordered {
         logger.info("Correlation ID Header: {}", CORRELATION_ID_HEADER);
         logger.info("Request ID Header: {}", REQUEST_ID_HEADER);
         logger.info("=================================================");
+
+        // Reactor context key -> MDC, restored on whichever thread runs the chain
+        ContextRegistry.getInstance().registerThreadLocalAccessor(CORRELATION_ID_HEADER,
+                () -> MDC.get(CORRELATION_ID_HEADER),
+                value -> MDC.put(CORRELATION_ID_HEADER, value),
+                () -> MDC.remove(CORRELATION_ID_HEADER));
     }
 
     /**
@@ -105,14 +119,6 @@ public class CorrelationIdFilter implements GlobalFilter, Ordered {
         response.getHeaders().add(CORRELATION_ID_HEADER, finalCorrelationId);
         response.getHeaders().add(REQUEST_ID_HEADER, finalCorrelationId);
 
-        // =========================================
-        // STEP 4: Add to MDC for Logging Context
-        // =========================================
-        // MDC allows correlation ID to appear in all log statements
-        MDC.put(CORRELATION_ID_HEADER, finalCorrelationId);
-        MDC.put("method", method);
-        MDC.put("path", path);
-
         // Log the request with correlation ID
         if (wasGenerated) {
             logger.info("📨 Incoming Request: {} {} | Correlation-ID: {} [GENERATED]",
@@ -123,7 +129,7 @@ public class CorrelationIdFilter implements GlobalFilter, Ordered {
         }
 
         // =========================================
-        // STEP 5: Process Request & Clean Up
+        // STEP 4: Process Request in the Correlation ID Context
         // =========================================
         return chain.filter(modifiedExchange)
                 .doOnSuccess(aVoid -> {
@@ -137,14 +143,8 @@ public class CorrelationIdFilter implements GlobalFilter, Ordered {
                     logger.error("❌ Request Failed: {} {} | Error: {} | Correlation-ID: {}",
                             method, path, error.getMessage(), finalCorrelationId);
                 })
-                .doFinally(signalType -> {
-                    // Always clean up MDC to prevent memory leaks
-                    logger.trace("🧹 Cleaning up MDC for Correlation-ID: {}", finalCorrelationId);
-                    MDC.remove(CORRELATION_ID_HEADER);
-                    MDC.remove(REQUEST_ID_HEADER);
-                    MDC.remove("method");
-                    MDC.remove("path");
-                });
+                // Visible to every operator upstream of this point, i.e. the whole chain
+                .contextWrite(Context.of(CORRELATION_ID_HEADER, finalCorrelationId));
     }
 
     /**
@@ -7,13 +7,15 @@ import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
+import com.example.apigateway.security.ErrorResponseCatalog.AuthError;
+import com.example.apigateway.security.jwt.JwtClaims;
 import com.example.apigateway.security.jwt.JwtUtil;
+import com.example.apigateway.security.revocation.RevocationList;
 
 import reactor.core.publisher.Mono;
 
@@ -31,9 +33,10 @@ import reactor.core.publisher.Mono;
  * 2. Extract JWT token from Authorization header
  * 3. Validate token signature and expiration
  * 4. Extract user role from token
- * 5. Verify role has access to requested route
- * 6. Add user info to request headers for downstream services
- * 7. Allow or deny request based on validation
+ * 5. Reject tokens revoked by logout (local RevocationList, no network call)
+ * 6. Verify role has access to requested route
+ * 7. Add user info to request headers for downstream services
+ * 8. Allow or deny request based on validation
  */
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
@@ -46,6 +49,12 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private PrincipalHeaderSigner principalHeaderSigner;
+
+    @Autowired
+    private RevocationList revocationList;
+
     public AuthenticationFilter() {
         super(Config.class);
         logger.info("=================================================");
@@ -79,7 +88,9 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             // =========================================
             // STEP 2: Check if Route is Public
             // =========================================
-            if (!routeValidator.isSecured.test(request)) {
+            RouteAccess routeAccess = routeValidator.resolve(path);
+
+            if (routeAccess.publicRoute()) {
                 logger.debug("✓ Public route detected: {} {} - Skipping authentication", method, path);
                 return chain.filter(exchange);
             }
@@ -94,13 +105,13 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             if (authHeader == null || authHeader.isBlank()) {
                 logger.warn("❌ Missing Authorization header for: {} {} [Correlation-ID: {}]",
                         method, path, correlationId);
-                return handleUnauthorized(response, "Missing Authorization header");
+                return ErrorResponseCatalog.write(response, AuthError.MISSING_AUTH_HEADER);
             }
 
             if (!authHeader.startsWith("Bearer ")) {
                 logger.warn("❌ Invalid Authorization header format for: {} {} [Correlation-ID: {}]",
                         method, path, correlationId);
-                return handleUnauthorized(response, "Invalid Authorization header format. Expected: Bearer <token>");
+                return ErrorResponseCatalog.write(response, AuthError.INVALID_AUTH_HEADER);
             }
 
             // =========================================
@@ -109,29 +120,42 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             String token = authHeader.substring(7);
             logger.debug("✓ JWT token extracted from Authorization header");
 
+            // Reject tokens that cannot be a signed JWT without invoking the parser
+            if (!jwtUtil.isWellFormed(token)) {
+                logger.warn("❌ Malformed JWT token for: {} {} [Correlation-ID: {}]",
+                        method, path, correlationId);
+                return ErrorResponseCatalog.write(response, AuthError.INVALID_TOKEN_FORMAT);
+            }
+
             try {
                 // =========================================
-                // STEP 5: Validate Token
+                // STEP 5: Validate Token (cached per token)
                 // =========================================
-                jwtUtil.validateToken(token);
+                JwtClaims claims = jwtUtil.parseClaims(token);
                 logger.debug("✓ JWT token validation successful");
 
                 // =========================================
                 // STEP 6: Extract User Information
                 // =========================================
-                String userRole = jwtUtil.extractRole(token);
-                Long userId = jwtUtil.extractUserId(token);
+                String userRole = claims.role();
+                Long userId = claims.userId();
+
+                // Logged-out tokens stay cryptographically valid until exp
+                if (claims.tokenId() != null && revocationList.isRevoked(claims.tokenId(), claims.expiresAt())) {
+                    logger.warn("❌ Revoked JWT token for: {} {} | UserID: {} [Correlation-ID: {}]",
+                            method, path, userId, correlationId);
+                    return ErrorResponseCatalog.write(response, AuthError.TOKEN_REVOKED);
+                }
 
                 logger.debug("✓ Extracted user info - UserID: {}, Role: {}", userId, userRole);
 
                 // =========================================
                 // STEP 7: Role-Based Authorization
                 // =========================================
-                if (!routeValidator.hasRoleAccess(request, userRole)) {
-                    logger.warn("❌ Access denied for role '{}' to path: {} {} [Correlation-ID: {}]",
-                            userRole, method, path, correlationId);
-                    return handleForbidden(response,
-                            String.format("Access denied. Role '%s' not allowed for this resource", userRole));
+                if (!routeAccess.permits(userRole)) {
+                    logger.warn("❌ Access denied for role '{}' to path: {} {} [Correlation-ID: {}]. Required roles: {}",
+                            userRole, method, path, correlationId, routeAccess.allowedRoles());
+                    return ErrorResponseCatalog.forbiddenForRole(response, userRole);
                 }
 
                 logger.info(
@@ -142,10 +166,19 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                 // STEP 8: Add User Info to Request Headers
                 // =========================================
                 // Forward user information to downstream services
+                // X-User-Signature lets downstream services trust these headers
+                // without verifying the JWT again (see PrincipalHeaderSigner)
+                String signature = principalHeaderSigner.sign(claims);
+                String email = claims.subject() == null ? "" : claims.subject();
+
                 ServerWebExchange modifiedExchange = exchange.mutate()
                         .request(builder -> {
-                            builder.header("X-User-Id", String.valueOf(userId));
-                            builder.header("X-User-Role", userRole);
+                            builder.header(PrincipalHeaderSigner.USER_ID_HEADER, String.valueOf(userId));
+                            builder.header(PrincipalHeaderSigner.USER_ROLE_HEADER, userRole);
+                            builder.header(PrincipalHeaderSigner.USER_EMAIL_HEADER, email);
+                            builder.header(PrincipalHeaderSigner.EXPIRES_HEADER,
+                                    String.valueOf(principalHeaderSigner.expiresAtSeconds(claims)));
+                            builder.header(PrincipalHeaderSigner.SIGNATURE_HEADER, signature);
                             builder.header("X-Auth-Token", token);
                         })
                         .build();
@@ -160,60 +193,26 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             } catch (io.jsonwebtoken.ExpiredJwtException e) {
                 logger.warn("❌ JWT token expired for: {} {} [Correlation-ID: {}]",
                         method, path, correlationId);
-                return handleUnauthorized(response, "Token expired. Please login again");
+                return ErrorResponseCatalog.write(response, AuthError.TOKEN_EXPIRED);
 
             } catch (io.jsonwebtoken.MalformedJwtException e) {
                 logger.warn("❌ Malformed JWT token for: {} {} [Correlation-ID: {}]",
                         method, path, correlationId);
-                return handleUnauthorized(response, "Invalid token format");
+                return ErrorResponseCatalog.write(response, AuthError.INVALID_TOKEN_FORMAT);
 
             } catch (io.jsonwebtoken.security.SignatureException e) {
                 logger.warn("❌ Invalid JWT signature for: {} {} [Correlation-ID: {}]",
                         method, path, correlationId);
-                return handleUnauthorized(response, "Invalid token signature");
+                return ErrorResponseCatalog.write(response, AuthError.INVALID_TOKEN_SIGNATURE);
 
             } catch (Exception e) {
                 logger.error("❌ Authentication failed for: {} {} [Correlation-ID: {}] - Error: {}",
                         method, path, correlationId, e.getMessage(), e);
-                return handleUnauthorized(response, "Authentication failed: " + e.getMessage());
+                return ErrorResponseCatalog.unauthorized(response, "Authentication failed: " + e.getMessage());
             }
         };
     }
 
-    /**
-     * Handle unauthorized access (401)
-     * Returns appropriate error response to client
-     */
-    private Mono<Void> handleUnauthorized(ServerHttpResponse response, String message) {
-        response.setStatusCode(HttpStatus.UNAUTHORIZED);
-        response.getHeaders().add("Content-Type", "application/json");
-
-        String errorBody = String.format(
-                "{\"error\":\"Unauthorized\",\"message\":\"%s\",\"status\":401}",
-                message);
-
-        logger.debug("Sending 401 Unauthorized response: {}", message);
-        return response.writeWith(
-                Mono.just(response.bufferFactory().wrap(errorBody.getBytes())));
-    }
-
-    /**
-     * Handle forbidden access (403)
-     * Returns appropriate error response to client
-     */
-    private Mono<Void> handleForbidden(ServerHttpResponse response, String message) {
-        response.setStatusCode(HttpStatus.FORBIDDEN);
-        response.getHeaders().add("Content-Type", "application/json");
-
-        String errorBody = String.format(
-                "{\"error\":\"Forbidden\",\"message\":\"%s\",\"status\":403}",
-                message);
-
-        logger.debug("Sending 403 Forbidden response: {}", message);
-        return response.writeWith(
-                Mono.just(response.bufferFactory().wrap(errorBody.getBytes())));
-    }
-
     /**
      * Configuration class for filter
      * Can be extended with additional configuration options
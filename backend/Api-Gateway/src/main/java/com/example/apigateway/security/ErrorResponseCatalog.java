@@ -0,0 +1,149 @@
+package com.example.apigateway.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * ErrorResponseCatalog - Pre-serialized 401/403 bodies for the Gateway
+ *
+ * Purpose:
+ * - Encodes each fixed error message to JSON bytes once, at class load
+ * - Rejections only wrap the shared bytes in a buffer (no formatting or copying)
+ * - Escapes dynamic values (role names, exception messages) before they enter JSON
+ *
+ * Body format:
+ * {"error":"Unauthorized","message":"...","status":401}
+ */
+public final class ErrorResponseCatalog {
+
+    /**
+     * Fixed error responses returned by AuthenticationFilter
+     */
+    public enum AuthError {
+        MISSING_AUTH_HEADER(HttpStatus.UNAUTHORIZED, "Missing Authorization header"),
+        INVALID_AUTH_HEADER(HttpStatus.UNAUTHORIZED, "Invalid Authorization header format. Expected: Bearer <token>"),
+        TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "Token expired. Please login again"),
+        INVALID_TOKEN_FORMAT(HttpStatus.UNAUTHORIZED, "Invalid token format"),
+        INVALID_TOKEN_SIGNATURE(HttpStatus.UNAUTHORIZED, "Invalid token signature"),
+        TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "Token has been revoked. Please login again");
+
+        private final HttpStatus status;
+        private final String message;
+        private final byte[] body;
+
+        AuthError(HttpStatus status, String message) {
+            this.status = status;
+            this.message = message;
+            this.body = encode(status, message);
+        }
+
+        public HttpStatus getStatus() {
+            return status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * Upper bound on cached per-role 403 bodies; roles come from verified
+     * tokens so only a handful ever exist
+     */
+    private static final int MAX_CACHED_ROLE_BODIES = 64;
+
+    private static final Map<String, byte[]> FORBIDDEN_BY_ROLE = new ConcurrentHashMap<>();
+
+    private ErrorResponseCatalog() {
+    }
+
+    /**
+     * Write a fixed error response
+     *
+     * @param response Response to write to
+     * @param error    Catalog entry
+     * @return Completion signal of the write
+     */
+    public static Mono<Void> write(ServerHttpResponse response, AuthError error) {
+        return write(response, error.status, error.body);
+    }
+
+    /**
+     * Write a 401 response with a dynamic message
+     * Used only for unexpected failures; the message is JSON-escaped
+     *
+     * @param response Response to write to
+     * @param message  Error message
+     * @return Completion signal of the write
+     */
+    public static Mono<Void> unauthorized(ServerHttpResponse response, String message) {
+        return write(response, HttpStatus.UNAUTHORIZED, encode(HttpStatus.UNAUTHORIZED, message));
+    }
+
+    /**
+     * Write the 403 response for a role that is not allowed on a route
+     *
+     * @param response Response to write to
+     * @param role     Role from the verified token
+     * @return Completion signal of the write
+     */
+    public static Mono<Void> forbiddenForRole(ServerHttpResponse response, String role) {
+        byte[] body = FORBIDDEN_BY_ROLE.get(role);
+        if (body == null) {
+            body = encode(HttpStatus.FORBIDDEN,
+                    "Access denied. Role '" + role + "' not allowed for this resource");
+            if (FORBIDDEN_BY_ROLE.size() < MAX_CACHED_ROLE_BODIES) {
+                FORBIDDEN_BY_ROLE.putIfAbsent(role, body);
+            }
+        }
+        return write(response, HttpStatus.FORBIDDEN, body);
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, HttpStatus status, byte[] body) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+
+        // wrap() shares the byte[] - nothing is copied per rejection
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static byte[] encode(HttpStatus status, String message) {
+        StringBuilder json = new StringBuilder(64 + message.length());
+        json.append("{\"error\":\"").append(status.getReasonPhrase())
+                .append("\",\"message\":\"");
+        appendEscaped(json, message);
+        json.append("\",\"status\":").append(status.value()).append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Append a value as the contents of a JSON string literal
+     */
+    static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.apigateway.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.apigateway.security.jwt.JwtClaims;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * PrincipalHeaderSigner - Signs the user headers forwarded to downstream services
+ *
+ * Purpose:
+ * - Lets downstream services trust X-User-* headers without re-verifying the JWT
+ * - One HMAC-SHA256 over a short canonical string instead of a JWT parse
+ *
+ * Canonical string (fields separated by '\n'):
+ * userId, role, email (empty if absent), expiry in epoch seconds
+ *
+ * Forwarded headers:
+ * - X-User-Id, X-User-Role, X-User-Email
+ * - X-User-Expires     Token expiry (epoch seconds)
+ * - X-User-Signature   Base64url HMAC-SHA256 of the canonical string
+ */
+@Component
+public class PrincipalHeaderSigner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalHeaderSigner.class);
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_ROLE_HEADER = "X-User-Role";
+    public static final String USER_EMAIL_HEADER = "X-User-Email";
+    public static final String EXPIRES_HEADER = "X-User-Expires";
+    public static final String SIGNATURE_HEADER = "X-User-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${security.gateway.header-secret}")
+    private String headerSecret;
+
+    private SecretKeySpec key;
+
+    // Mac is not thread-safe; keep one initialised instance per thread
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    public void init() {
+        this.key = new SecretKeySpec(headerSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        newMac();
+        logger.info("✓ Principal header signing ready");
+    }
+
+    /**
+     * Sign the principal described by verified claims
+     *
+     * @param claims Verified JWT claims
+     * @return Base64url (unpadded) signature for the X-User-Signature header
+     */
+    public String sign(JwtClaims claims) {
+        String canonical = claims.userId() + "\n"
+                + claims.role() + "\n"
+                + (claims.subject() == null ? "" : claims.subject()) + "\n"
+                + expiresAtSeconds(claims);
+
+        byte[] signature = macs.get().doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    /**
+     * Expiry value carried in the X-User-Expires header
+     *
+     * @param claims Verified JWT claims
+     * @return Token expiry in epoch seconds
+     */
+    public long expiresAtSeconds(JwtClaims claims) {
+        return claims.expiresAt() / 1000;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialise principal header signer", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.apigateway.security;
+
+import java.util.List;
+
+/**
+ * RouteAccess - Pre-computed access rule for a route prefix
+ *
+ * Instances are created once when the route trie is compiled and shared by
+ * every request that resolves to the same prefix.
+ *
+ * @param publicRoute  true if the route bypasses authentication
+ * @param allowedRoles Roles allowed on the route (empty = any authenticated user)
+ */
+public record RouteAccess(boolean publicRoute, List<String> allowedRoles) {
+
+        /**
+         * Access for paths that match no configured rule
+         */
+        public static final RouteAccess SECURED_ANY_ROLE = new RouteAccess(false, List.of());
+
+        /**
+         * Check if a role may access the route
+         *
+         * @param role Role of the authenticated user
+         * @return true if there is no role restriction or the role is listed
+         */
+        public boolean permits(String role) {
+                return allowedRoles.isEmpty() || allowedRoles.contains(role);
+        }
+}
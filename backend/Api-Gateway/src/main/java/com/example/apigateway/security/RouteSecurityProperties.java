@@ -0,0 +1,56 @@
+package com.example.apigateway.security;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * RouteSecurityProperties - Externalized route access rules (app.security.*)
+ *
+ * Example:
+ * app:
+ *   security:
+ *     public-endpoints:
+ *       - /api/auth/login
+ *       - /actuator/health
+ *     role-mappings:
+ *       faculty:
+ *         - /api/faculty/**
+ *
+ * Every pattern is a path prefix matched on whole segments; a trailing
+ * "/**" is optional and means the same thing.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security")
+public class RouteSecurityProperties {
+
+        /**
+         * Path prefixes that bypass JWT authentication
+         */
+        private List<String> publicEndpoints = new ArrayList<>();
+
+        /**
+         * Role name (case-insensitive) to the path prefixes restricted to it
+         */
+        private Map<String, List<String>> roleMappings = new LinkedHashMap<>();
+
+        public List<String> getPublicEndpoints() {
+                return publicEndpoints;
+        }
+
+        public void setPublicEndpoints(List<String> publicEndpoints) {
+                this.publicEndpoints = publicEndpoints;
+        }
+
+        public Map<String, List<String>> getRoleMappings() {
+                return roleMappings;
+        }
+
+        public void setRoleMappings(Map<String, List<String>> roleMappings) {
+                this.roleMappings = roleMappings;
+        }
+}
@@ -0,0 +1,178 @@
+package com.example.apigateway.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RouteTrie - Path-segment trie of route access rules
+ *
+ * Purpose:
+ * - Compiled once at startup from RouteSecurityProperties
+ * - Resolves public/secured status and allowed roles in a single walk
+ * - The walk compares segments in place (no split, substring or stream)
+ *
+ * Matching rules:
+ * - Patterns are prefixes matched on whole segments ("/api/faculty" matches
+ *   "/api/faculty" and "/api/faculty/1", but not "/api/facultyX")
+ * - A trailing "/**" is accepted and means the same thing
+ * - A path is public if any matching prefix is public
+ * - Allowed roles come from the longest matching prefix; the same prefix
+ *   listed under several roles allows all of them
+ */
+final class RouteTrie {
+
+        private final Node root;
+
+        private RouteTrie(Node root) {
+                this.root = root;
+        }
+
+        /**
+         * Compile a trie from public endpoints and role mappings
+         *
+         * @param publicEndpoints Public path prefixes
+         * @param roleMappings    Role name to restricted path prefixes
+         * @return Compiled trie
+         * @throws IllegalArgumentException if a pattern uses an unsupported wildcard
+         */
+        static RouteTrie compile(List<String> publicEndpoints, Map<String, List<String>> roleMappings) {
+                Builder root = new Builder();
+
+                for (String pattern : publicEndpoints) {
+                        root.insert(pattern).publicRoute = true;
+                }
+
+                roleMappings.forEach((role, patterns) -> {
+                        String normalizedRole = role.trim().toUpperCase(Locale.ROOT);
+                        for (String pattern : patterns) {
+                                root.insert(pattern).roles.add(normalizedRole);
+                        }
+                });
+
+                return new RouteTrie(root.build(RouteAccess.SECURED_ANY_ROLE));
+        }
+
+        /**
+         * Resolve the access rule for a request path
+         *
+         * @param path Request path (e.g. "/api/faculty/12")
+         * @return Access rule of the longest matching prefix
+         */
+        RouteAccess resolve(String path) {
+                Node node = root;
+                int length = path.length();
+                int start = 0;
+
+                while (start < length) {
+                        // Skip separators, then find the end of the segment
+                        if (path.charAt(start) == '/') {
+                                start++;
+                                continue;
+                        }
+                        int end = path.indexOf('/', start);
+                        if (end < 0) {
+                                end = length;
+                        }
+
+                        Node child = node.child(path, start, end - start);
+                        if (child == null) {
+                                break;
+                        }
+                        node = child;
+                        start = end;
+                }
+
+                return node.access;
+        }
+
+        /**
+         * Immutable trie node used at request time
+         */
+        private static final class Node {
+
+                private final String[] labels;
+                private final Node[] children;
+                private final RouteAccess access;
+
+                private Node(String[] labels, Node[] children, RouteAccess access) {
+                        this.labels = labels;
+                        this.children = children;
+                        this.access = access;
+                }
+
+                private Node child(String path, int offset, int length) {
+                        for (int i = 0; i < labels.length; i++) {
+                                String label = labels[i];
+                                if (label.length() == length && path.regionMatches(offset, label, 0, length)) {
+                                        return children[i];
+                                }
+                        }
+                        return null;
+                }
+        }
+
+        /**
+         * Mutable node used while compiling
+         */
+        private static final class Builder {
+
+                private final List<String> labels = new ArrayList<>();
+                private final List<Builder> children = new ArrayList<>();
+                private final Set<String> roles = new LinkedHashSet<>();
+                private boolean publicRoute;
+
+                private Builder insert(String pattern) {
+                        Builder node = this;
+                        for (String segment : segments(pattern)) {
+                                int index = node.labels.indexOf(segment);
+                                if (index < 0) {
+                                        node.labels.add(segment);
+                                        node.children.add(new Builder());
+                                        index = node.labels.size() - 1;
+                                }
+                                node = node.children.get(index);
+                        }
+                        return node;
+                }
+
+                private Node build(RouteAccess inherited) {
+                        boolean isPublic = inherited.publicRoute() || publicRoute;
+                        List<String> allowedRoles = roles.isEmpty()
+                                        ? inherited.allowedRoles()
+                                        : List.copyOf(roles);
+
+                        RouteAccess access = (isPublic == inherited.publicRoute()
+                                        && allowedRoles == inherited.allowedRoles())
+                                                        ? inherited
+                                                        : new RouteAccess(isPublic, allowedRoles);
+
+                        Node[] built = new Node[children.size()];
+                        for (int i = 0; i < built.length; i++) {
+                                built[i] = children.get(i).build(access);
+                        }
+                        return new Node(labels.toArray(new String[0]), built, access);
+                }
+
+                private static List<String> segments(String pattern) {
+                        String trimmed = pattern.trim();
+                        if (trimmed.endsWith("/**")) {
+                                trimmed = trimmed.substring(0, trimmed.length() - 3);
+                        }
+                        if (trimmed.contains("*")) {
+                                throw new IllegalArgumentException(
+                                                "Unsupported route pattern '" + pattern
+                                                                + "': only a trailing /** wildcard is allowed");
+                        }
+
+                        List<String> segments = new ArrayList<>(Arrays.asList(trimmed.split("/")));
+                        segments.removeIf(String::isEmpty);
+                        return Collections.unmodifiableList(segments);
+                }
+        }
+}
@@ -0,0 +1,28 @@
+package com.example.apigateway.security.jwt;
+
+/**
+ * JwtClaims - Immutable view of the claims the Gateway needs from a verified token
+ *
+ * Purpose:
+ * - Holds everything the AuthenticationFilter reads from a JWT
+ * - Produced once per token by a single signature verification
+ * - Safe to share between requests through the JwtClaimsCache
+ *
+ * @param userId    Value of the "userId" claim
+ * @param role      Value of the "role" claim (e.g. "STUDENT", "FACULTY")
+ * @param subject   Token subject (the user's email), may be null
+ * @param expiresAt Token expiry in epoch milliseconds
+ * @param tokenId   Token id ("jti"), used for revocation; null for older tokens
+ */
+public record JwtClaims(Long userId, String role, String subject, long expiresAt, String tokenId) {
+
+    /**
+     * Check whether the token these claims came from has expired
+     *
+     * @param nowMillis Current time in epoch milliseconds
+     * @return true if expired, false otherwise
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.apigateway.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * JwtClaimsCache - Bounded cache of verified JWT claims
+ *
+ * Purpose:
+ * - Avoids re-verifying the HMAC signature of a token on every request
+ * - Keys entries by the SHA-256 digest of the token (raw tokens are never stored)
+ * - Caffeine cache: each entry expires at its token's own "exp", and at
+ *   max-size the least valuable entries are evicted, so new tokens are always cached
+ * - Publishes hit/miss counters and size through Actuator metrics
+ *
+ * Metrics:
+ * - gateway.jwt.claims.cache{result=hit|miss}
+ * - gateway.jwt.claims.cache.size
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtClaimsCache.class);
+
+    @Value("${security.jwt.claims-cache.max-size:10000}")
+    private int maxSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, JwtClaims> entries;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, JwtClaims>creating((key, claims) -> untilExpiry(claims)))
+                .build();
+
+        this.hits = Counter.builder("gateway.jwt.claims.cache")
+                .description("Verified JWT claims cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("gateway.jwt.claims.cache")
+                .description("Verified JWT claims cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.claims.cache.size", entries, Cache::estimatedSize)
+                .description("Number of cached verified JWT claims")
+                .register(meterRegistry);
+
+        logger.info("✓ JWT claims cache ready (max size: {})", maxSize);
+    }
+
+    /**
+     * Compute the cache key for a token
+     *
+     * @param token Raw JWT string
+     * @return Base64 encoded SHA-256 digest of the token
+     */
+    public String keyFor(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Look up previously verified claims
+     * Expired entries are reported as a miss
+     *
+     * @param key       Key from {@link #keyFor(String)}
+     * @param nowMillis Current time in epoch milliseconds
+     * @return Cached claims, or null on a miss
+     */
+    public JwtClaims get(String key, long nowMillis) {
+        JwtClaims claims = entries.getIfPresent(key);
+
+        // Caffeine expires on its own clock; the caller's clock has the last word
+        if (claims != null && claims.isExpired(nowMillis)) {
+            entries.invalidate(key);
+            claims = null;
+        }
+
+        if (claims == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return claims;
+    }
+
+    /**
+     * Store verified claims
+     * Claims of an already expired token are not cached
+     *
+     * @param key       Key from {@link #keyFor(String)}
+     * @param claims    Verified claims
+     * @param nowMillis Current time in epoch milliseconds
+     */
+    public void put(String key, JwtClaims claims, long nowMillis) {
+        if (!claims.isExpired(nowMillis)) {
+            entries.put(key, claims);
+        }
+    }
+
+    private static Duration untilExpiry(JwtClaims claims) {
+        long remainingMillis = claims.expiresAt() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(remainingMillis, 0));
+    }
+}
@@ -4,12 +4,14 @@ import javax.crypto.SecretKey;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
@@ -25,12 +27,14 @@ import jakarta.annotation.PostConstruct;
  * - Extracts user information from tokens
  * - Verifies token signature and expiration
  * - Provides centralized JWT operations for Gateway
+ * - Verifies each distinct token only once (see JwtClaimsCache)
  * 
  * Token Structure:
  * {
  * "sub": "username",
  * "userId": 123,
  * "role": "STUDENT/FACULTY",
+ * "jti": "uuid",
  * "iat": 1234567890,
  * "exp": 1234567890
  * }
@@ -43,8 +47,19 @@ public class JwtUtil {
     @Value("${security.jwt.secret}")
     private String SECRET;
 
+    /**
+     * Upper bound on accepted token length; anything longer is rejected unparsed
+     */
+    @Value("${security.jwt.max-token-length:4096}")
+    private int maxTokenLength;
+
     private SecretKey signingKey;
 
+    private JwtParser jwtParser;
+
+    @Autowired
+    private JwtClaimsCache claimsCache;
+
     @PostConstruct
     public void init() {
         logger.info("=================================================");
@@ -53,6 +68,10 @@ public class JwtUtil {
         try {
             // Pre-generate signing key for performance
             this.signingKey = generateSigningKey();
+            // JwtParser is immutable and thread-safe - build it once
+            this.jwtParser = Jwts.parser()
+                    .verifyWith(signingKey)
+                    .build();
             logger.info("✓ JWT signing key generated successfully");
             logger.info("✓ JWT validation ready");
             logger.info("=================================================");
@@ -73,16 +92,88 @@ public class JwtUtil {
      * @throws JwtException          for other JWT-related errors
      */
     public void validateToken(final String token) {
+        parseClaims(token);
+    }
+
+    /**
+     * Cheap structural check of a compact JWS before any JJWT parsing
+     * Rejects tokens with the wrong segment count, a non-base64url character,
+     * an empty segment, or a signature length no HMAC-SHA algorithm produces.
+     *
+     * @param token Raw token from the Authorization header
+     * @return true if the token may be a signed JWT, false if it certainly is not
+     */
+    public boolean isWellFormed(String token) {
+        int length = token.length();
+        if (length == 0 || length > maxTokenLength) {
+            return false;
+        }
+
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return false;
+                }
+            } else if (!isBase64UrlChar(c)) {
+                return false;
+            }
+        }
+
+        if (secondDot < 0 || firstDot == 0 || secondDot == firstDot + 1) {
+            return false;
+        }
+
+        // HS256 / HS384 / HS512 signatures are 43 / 64 / 86 base64url characters
+        int signatureLength = length - secondDot - 1;
+        return signatureLength == 43 || signatureLength == 64 || signatureLength == 86;
+    }
+
+    private static boolean isBase64UrlChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_';
+    }
+
+    /**
+     * Verify a JWT token and return the claims the Gateway needs
+     * The signature is verified once per distinct token; later calls with the
+     * same token are served from the claims cache until the token expires.
+     *
+     * @param token JWT token to verify
+     * @return Immutable claims (userId, role, subject, expiry)
+     * @throws ExpiredJwtException   if token is expired
+     * @throws MalformedJwtException if token format is invalid
+     * @throws SignatureException    if signature is invalid
+     * @throws JwtException          for other JWT-related errors
+     */
+    public JwtClaims parseClaims(final String token) {
+        long now = System.currentTimeMillis();
+        String cacheKey = claimsCache.keyFor(token);
+
+        JwtClaims cached = claimsCache.get(cacheKey, now);
+        if (cached != null) {
+            logger.trace("✓ JWT claims served from cache");
+            return cached;
+        }
+
         logger.debug("🔍 Validating JWT token...");
 
         try {
             // Parse and validate token
-            Jwts.parser()
-                    .verifyWith(signingKey)
-                    .build()
-                    .parseSignedClaims(token);
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            JwtClaims verified = toJwtClaims(claims);
 
+            if (!verified.isExpired(now)) {
+                claimsCache.put(cacheKey, verified, now);
+            }
             logger.debug("✓ JWT token validation successful");
+            return verified;
 
         } catch (ExpiredJwtException e) {
             logger.warn("❌ JWT token expired: {}", e.getMessage());
@@ -111,25 +202,7 @@ public class JwtUtil {
      */
     public String extractRole(String token) {
         logger.debug("📋 Extracting role from JWT token");
-
-        try {
-            Claims claims = extractAllClaims(token);
-            String role = claims.get("role", String.class);
-
-            if (role == null || role.isBlank()) {
-                logger.warn("⚠️ Role claim is missing or empty in token");
-                throw new JwtException("Role not found in token");
-            }
-
-            logger.debug("✓ Extracted role: {}", role);
-            return role;
-
-        } catch (JwtException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("❌ Failed to extract role from token: {}", e.getMessage(), e);
-            throw new JwtException("Failed to extract role", e);
-        }
+        return parseClaims(token).role();
     }
 
     /**
@@ -141,39 +214,7 @@ public class JwtUtil {
      */
     public Long extractUserId(String token) {
         logger.debug("🆔 Extracting userId from JWT token");
-
-        try {
-            Claims claims = extractAllClaims(token);
-
-            // Try to get userId as Long
-            Object userIdObj = claims.get("userId");
-
-            if (userIdObj == null) {
-                logger.warn("⚠️ UserId claim is missing in token");
-                throw new JwtException("UserId not found in token");
-            }
-
-            Long userId;
-            if (userIdObj instanceof Integer) {
-                userId = ((Integer) userIdObj).longValue();
-            } else if (userIdObj instanceof Long) {
-                userId = (Long) userIdObj;
-            } else {
-                userId = Long.parseLong(userIdObj.toString());
-            }
-
-            logger.debug("✓ Extracted userId: {}", userId);
-            return userId;
-
-        } catch (JwtException e) {
-            throw e;
-        } catch (NumberFormatException e) {
-            logger.error("❌ Invalid userId format in token: {}", e.getMessage());
-            throw new JwtException("Invalid userId format", e);
-        } catch (Exception e) {
-            logger.error("❌ Failed to extract userId from token: {}", e.getMessage(), e);
-            throw new JwtException("Failed to extract userId", e);
-        }
+        return parseClaims(token).userId();
     }
 
     /**
@@ -186,24 +227,56 @@ public class JwtUtil {
     public String extractUsername(String token) {
         logger.debug("👤 Extracting username from JWT token");
 
-        try {
-            Claims claims = extractAllClaims(token);
-            String username = claims.getSubject();
+        String username = parseClaims(token).subject();
+        if (username == null || username.isBlank()) {
+            logger.warn("⚠️ Subject (username) is missing in token");
+            throw new JwtException("Username not found in token");
+        }
 
-            if (username == null || username.isBlank()) {
-                logger.warn("⚠️ Subject (username) is missing in token");
-                throw new JwtException("Username not found in token");
-            }
+        logger.debug("✓ Extracted username: {}", username);
+        return username;
+    }
 
-            logger.debug("✓ Extracted username: {}", username);
-            return username;
+    /**
+     * Convert verified claims into the immutable JwtClaims view
+     * Role and userId are mandatory for every Gateway-authenticated request
+     *
+     * @param claims Verified token claims
+     * @return JwtClaims record
+     * @throws JwtException if role or userId is missing or invalid
+     */
+    private JwtClaims toJwtClaims(Claims claims) {
+        String role = claims.get("role", String.class);
+        if (role == null || role.isBlank()) {
+            logger.warn("⚠️ Role claim is missing or empty in token");
+            throw new JwtException("Role not found in token");
+        }
 
-        } catch (JwtException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("❌ Failed to extract username from token: {}", e.getMessage(), e);
-            throw new JwtException("Failed to extract username", e);
+        Object userIdObj = claims.get("userId");
+        if (userIdObj == null) {
+            logger.warn("⚠️ UserId claim is missing in token");
+            throw new JwtException("UserId not found in token");
         }
+
+        Long userId;
+        if (userIdObj instanceof Integer) {
+            userId = ((Integer) userIdObj).longValue();
+        } else if (userIdObj instanceof Long) {
+            userId = (Long) userIdObj;
+        } else {
+            try {
+                userId = Long.parseLong(userIdObj.toString());
+            } catch (NumberFormatException e) {
+                logger.error("❌ Invalid userId format in token: {}", e.getMessage());
+                throw new JwtException("Invalid userId format", e);
+            }
+        }
+
+        if (claims.getExpiration() == null) {
+            // Tokens without "exp" are still accepted, but never cached
+            return new JwtClaims(userId, role, claims.getSubject(), 0L, claims.getId());
+        }
+        return new JwtClaims(userId, role, claims.getSubject(), claims.getExpiration().getTime(), claims.getId());
     }
 
     /**
@@ -218,11 +291,7 @@ public class JwtUtil {
         logger.trace("📦 Extracting all claims from token");
 
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(signingKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
             logger.trace("✓ Claims extracted successfully");
             return claims;
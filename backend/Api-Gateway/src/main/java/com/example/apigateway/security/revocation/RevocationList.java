@@ -0,0 +1,138 @@
+package com.example.apigateway.security.revocation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * RevocationList - Revoked token ids (jti) held in memory at the Gateway
+ *
+ * Structure:
+ * - Revocations are grouped into buckets by token expiry window
+ * - Each bucket has a Bloom filter in front of an exact set
+ * - A token is checked only against the bucket of its own "exp", so a lookup
+ *   is one Bloom probe and, only for probable hits, one set lookup
+ * - Whole buckets are dropped once every token in them has expired
+ */
+@Component
+public class RevocationList {
+
+    private static final int BLOOM_BITS = 1 << 16;
+    private static final int BLOOM_HASHES = 3;
+
+    @Value("${security.revocation.bucket-window:PT5M}")
+    private Duration bucketWindow;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private long windowMillis;
+
+    @PostConstruct
+    public void init() {
+        this.windowMillis = bucketWindow.toMillis();
+        Gauge.builder("gateway.jwt.revocations", this, RevocationList::size)
+                .description("Revoked tokens tracked by the Gateway")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a revoked token
+     *
+     * @param jti       Token id
+     * @param expiresAt Token expiry in epoch milliseconds
+     */
+    public void add(String jti, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(expiresAt / windowMillis, index -> new Bucket()).add(jti);
+    }
+
+    /**
+     * Check whether a token has been revoked
+     *
+     * @param jti       Token id
+     * @param expiresAt Token expiry in epoch milliseconds
+     * @return true if revoked
+     */
+    public boolean isRevoked(String jti, long expiresAt) {
+        Bucket bucket = buckets.get(expiresAt / windowMillis);
+        return bucket != null && bucket.contains(jti);
+    }
+
+    /**
+     * Drop buckets whose whole window lies in the past
+     */
+    public void purgeExpired() {
+        long currentIndex = System.currentTimeMillis() / windowMillis;
+        buckets.keySet().removeIf(index -> index < currentIndex);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Bucket bucket : buckets.values()) {
+            size += bucket.exact.size();
+        }
+        return size;
+    }
+
+    /**
+     * Bloom filter plus exact set for one expiry window
+     */
+    private static final class Bucket {
+
+        private final AtomicLongArray bits = new AtomicLongArray(BLOOM_BITS / 64);
+        private final Set<String> exact = ConcurrentHashMap.newKeySet();
+
+        void add(String jti) {
+            // Exact set first, so a concurrent reader never sees a Bloom hit without it
+            exact.add(jti);
+            int h1 = jti.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+                long mask = 1L << (bit & 63);
+                int word = bit >>> 6;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean contains(String jti) {
+            int h1 = jti.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+                if ((bits.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                    return false;
+                }
+            }
+            return exact.contains(jti);
+        }
+
+        private static int mix(int h) {
+            // murmur3 fmix32; forced odd so the probe sequence covers the table
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h | 1;
+        }
+    }
+}
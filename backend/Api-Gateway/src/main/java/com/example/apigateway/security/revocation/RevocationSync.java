@@ -0,0 +1,116 @@
+package com.example.apigateway.security.revocation;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RevocationSync - Keeps the RevocationList in step with Authentication-Service
+ *
+ * Purpose:
+ * - Polls the auth service revocation feed in the background
+ * - Uses a cursor, so each poll only transfers revocations not yet seen
+ *   (plus recent ones, which the feed re-sends in case of late commits)
+ * - Request handling never calls the auth service; it only reads RevocationList
+ */
+@Component
+public class RevocationSync {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationSync.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    @Autowired
+    private RevocationList revocationList;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Value("${security.revocation.auth-service-url}")
+    private String authServiceUrl;
+
+    @Value("${security.revocation.feed-path:/auth/api/auth/revocations}")
+    private String feedPath;
+
+    @Value("${security.revocation.sync-interval:PT5S}")
+    private Duration syncInterval;
+
+    private WebClient webClient;
+
+    private volatile long cursor = 0L;
+
+    private Disposable subscription;
+
+    /**
+     * Page of the auth service revocation feed
+     */
+    record FeedPage(long cursor, List<FeedEntry> revocations) {
+    }
+
+    record FeedEntry(String jti, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void start() {
+        this.webClient = webClientBuilder.baseUrl(authServiceUrl).build();
+
+        this.subscription = Flux.interval(Duration.ZERO, syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> poll()
+                        .onErrorResume(e -> {
+                            logger.warn("⚠️ Revocation sync failed: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+
+        logger.info("✓ Revocation sync started ({} every {})", authServiceUrl + feedPath, syncInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Mono<Void> poll() {
+        return fetch(cursor)
+                .expand(page -> page.revocations() != null && page.revocations().size() == PAGE_SIZE
+                        ? fetch(page.cursor())
+                        : Mono.empty())
+                .doOnNext(this::apply)
+                .then(Mono.fromRunnable(revocationList::purgeExpired));
+    }
+
+    private Mono<FeedPage> fetch(long since) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(feedPath)
+                        .queryParam("since", since)
+                        .queryParam("limit", PAGE_SIZE)
+                        .build())
+                .retrieve()
+                .bodyToMono(FeedPage.class);
+    }
+
+    private void apply(FeedPage page) {
+        if (page.revocations() != null) {
+            page.revocations().forEach(entry -> revocationList.add(entry.jti(), entry.expiresAt()));
+            if (!page.revocations().isEmpty()) {
+                logger.debug("✓ Applied {} token revocations", page.revocations().size());
+            }
+        }
+        this.cursor = page.cursor();
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.apigateway.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Matching rules of RouteTrie, and parity with the list-based RouteValidator
+ * it replaced (PUBLIC_ENDPOINTS / ROLE_BASED_ROUTES with startsWith)
+ */
+class RouteTrieTest {
+
+        // The lists the old RouteValidator hard-coded
+        private static final List<String> OLD_PUBLIC_ENDPOINTS = List.of(
+                        "/api/auth/register", "/api/auth/login", "/api/auth/token", "/api/auth/validate",
+                        "/auth/register", "/auth/login", "/auth/token", "/auth/validate",
+                        "/actuator/health", "/actuator/info", "/actuator/prometheus");
+
+        private static final Map<String, List<String>> OLD_ROLE_BASED_ROUTES = Map.of(
+                        "/api/faculty", List.of("FACULTY"),
+                        "/faculty", List.of("FACULTY"),
+                        "/api/student", List.of("STUDENT"),
+                        "/student", List.of("STUDENT"),
+                        "/api/admin", List.of("ADMIN"),
+                        "/admin", List.of("ADMIN"));
+
+        @Test
+        void exactPatternMatchesItselfAndItsSubPaths() {
+                RouteTrie trie = RouteTrie.compile(List.of("/api/auth/login"), Map.of());
+
+                assertThat(trie.resolve("/api/auth/login").publicRoute()).isTrue();
+                assertThat(trie.resolve("/api/auth/login/").publicRoute()).isTrue();
+                assertThat(trie.resolve("/api/auth/login/sso").publicRoute()).isTrue();
+                assertThat(trie.resolve("/api/auth").publicRoute()).isFalse();
+                assertThat(trie.resolve("/api/auth/logout").publicRoute()).isFalse();
+        }
+
+        @Test
+        void trailingDoubleWildcardMeansThePlainPrefix() {
+                RouteTrie plain = RouteTrie.compile(List.of(), Map.of("faculty", List.of("/api/faculty")));
+                RouteTrie wildcard = RouteTrie.compile(List.of(), Map.of("faculty", List.of("/api/faculty/**")));
+
+                for (String path : List.of("/api/faculty", "/api/faculty/", "/api/faculty/12", "/api/faculty/12/projects",
+                                "/api/student/3", "/")) {
+                        assertThat(wildcard.resolve(path)).as(path).isEqualTo(plain.resolve(path));
+                }
+                assertThat(wildcard.resolve("/api/faculty").allowedRoles()).containsExactly("FACULTY");
+        }
+
+        @Test
+        void patternsMatchWholeSegmentsOnly() {
+                RouteTrie trie = RouteTrie.compile(List.of("/actuator/health"),
+                                Map.of("faculty", List.of("/api/faculty/**")));
+
+                assertThat(trie.resolve("/api/facultyX/1")).isEqualTo(RouteAccess.SECURED_ANY_ROLE);
+                assertThat(trie.resolve("/actuator/healthz").publicRoute()).isFalse();
+        }
+
+        @Test
+        void unsupportedWildcardIsRejectedAtCompileTime() {
+                assertThatThrownBy(() -> RouteTrie.compile(List.of("/api/*/login"), Map.of()))
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessageContaining("/api/*/login");
+                assertThatThrownBy(() -> RouteTrie.compile(List.of(), Map.of("admin", List.of("/admin/*"))))
+                                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void longestMatchingPrefixDecidesTheRoles() {
+                Map<String, List<String>> roles = new LinkedHashMap<>();
+                roles.put("faculty", List.of("/api/projects/**"));
+                roles.put("admin", List.of("/api/projects/archive/**"));
+                RouteTrie trie = RouteTrie.compile(List.of(), roles);
+
+                assertThat(trie.resolve("/api/projects/7").allowedRoles()).containsExactly("FACULTY");
+                assertThat(trie.resolve("/api/projects/archive/7").allowedRoles()).containsExactly("ADMIN");
+                // Order of the role mappings does not matter
+                Map<String, List<String>> reversed = new LinkedHashMap<>();
+                reversed.put("admin", roles.get("admin"));
+                reversed.put("faculty", roles.get("faculty"));
+                assertThat(RouteTrie.compile(List.of(), reversed).resolve("/api/projects/archive/7").allowedRoles())
+                                .containsExactly("ADMIN");
+        }
+
+        @Test
+        void samePrefixUnderSeveralRolesAllowsAllOfThem() {
+                Map<String, List<String>> roles = new LinkedHashMap<>();
+                roles.put("Faculty", List.of("/api/reports/**"));
+                roles.put(" admin ", List.of("/api/reports"));
+                RouteAccess access = RouteTrie.compile(List.of(), roles).resolve("/api/reports/9");
+
+                assertThat(access.allowedRoles()).containsExactly("FACULTY", "ADMIN");
+                assertThat(access.permits("ADMIN")).isTrue();
+                assertThat(access.permits("STUDENT")).isFalse();
+        }
+
+        @Test
+        void pathIsPublicIfAnyMatchingPrefixIsPublic() {
+                RouteTrie trie = RouteTrie.compile(List.of("/api/auth"),
+                                Map.of("admin", List.of("/api/auth/admin/**")));
+
+                RouteAccess access = trie.resolve("/api/auth/admin/users");
+                assertThat(access.publicRoute()).isTrue();
+                assertThat(access.allowedRoles()).containsExactly("ADMIN");
+        }
+
+        @Test
+        void unlistedPathIsSecuredForAnyRole() {
+                RouteTrie trie = RouteTrie.compile(List.of("/api/auth/login"),
+                                Map.of("faculty", List.of("/api/faculty/**")));
+
+                for (String path : List.of("/", "", "/api", "/api/notifications/5", "//api//other")) {
+                        RouteAccess access = trie.resolve(path);
+                        assertThat(access).as(path).isEqualTo(RouteAccess.SECURED_ANY_ROLE);
+                        assertThat(access.permits("STUDENT")).isTrue();
+                }
+        }
+
+        @Test
+        void onlyActuatorHealthIsPublicInShippedConfig() throws IOException {
+                RouteSecurityProperties properties = shippedProperties();
+                RouteTrie trie = RouteTrie.compile(properties.getPublicEndpoints(), properties.getRoleMappings());
+
+                assertThat(trie.resolve("/actuator/health").publicRoute()).isTrue();
+                assertThat(trie.resolve("/actuator/health/liveness").publicRoute()).isTrue();
+                for (String path : List.of("/actuator", "/actuator/env", "/actuator/gateway/routes",
+                                "/actuator/refresh", "/actuator/metrics")) {
+                        assertThat(trie.resolve(path).publicRoute()).as(path).isFalse();
+                }
+                assertThat(trie.resolve("/api/auth/login").publicRoute()).isTrue();
+                assertThat(trie.resolve("/api/faculty/3").allowedRoles()).containsExactly("FACULTY");
+                assertThat(trie.resolve("/api/studentProject/3").allowedRoles()).containsExactly("STUDENT");
+        }
+
+        @Test
+        void matchesListBasedBehaviourOnSegmentAlignedPaths() {
+                RouteTrie trie = RouteTrie.compile(OLD_PUBLIC_ENDPOINTS, byRole(OLD_ROLE_BASED_ROUTES));
+
+                List<String> paths = List.of(
+                                "/api/auth/login", "/api/auth/register", "/api/auth/validate/token",
+                                "/auth/token", "/auth/me",
+                                "/actuator/health", "/actuator/info", "/actuator/prometheus", "/actuator/env",
+                                "/api/faculty", "/api/faculty/12", "/api/faculty/12/projects",
+                                "/faculty/api/notifications/3",
+                                "/api/student", "/api/student/7/projects", "/student/dashboard",
+                                "/api/admin/users", "/admin",
+                                "/api/notifications/3", "/api/search", "/");
+
+                for (String path : paths) {
+                        RouteAccess access = trie.resolve(path);
+                        assertThat(access.publicRoute()).as("public " + path).isEqualTo(oldIsPublic(path));
+                        assertThat(access.allowedRoles()).as("roles " + path).isEqualTo(oldAllowedRoles(path));
+                }
+        }
+
+        @Test
+        void prefixThatEndsMidSegmentNoLongerMatches() {
+                RouteTrie trie = RouteTrie.compile(OLD_PUBLIC_ENDPOINTS, byRole(OLD_ROLE_BASED_ROUTES));
+
+                // startsWith let these through; whole-segment matching does not
+                assertThat(oldIsPublic("/api/auth/login-as-admin")).isTrue();
+                assertThat(trie.resolve("/api/auth/login-as-admin").publicRoute()).isFalse();
+                assertThat(oldAllowedRoles("/api/students/3")).containsExactly("STUDENT");
+                assertThat(trie.resolve("/api/students/3").allowedRoles()).isEmpty();
+        }
+
+        /**
+         * RouteValidator.isPublicEndpoint before the trie
+         */
+        private static boolean oldIsPublic(String path) {
+                return OLD_PUBLIC_ENDPOINTS.stream()
+                                .anyMatch(publicPath -> path.startsWith(publicPath) || path.equals(publicPath));
+        }
+
+        /**
+         * RouteValidator.getAllowedRoles before the trie; the old prefixes never
+         * overlapped, so findFirst over the unordered map was deterministic
+         */
+        private static List<String> oldAllowedRoles(String path) {
+                return OLD_ROLE_BASED_ROUTES.entrySet().stream()
+                                .filter(entry -> path.startsWith(entry.getKey()))
+                                .map(Map.Entry::getValue)
+                                .findFirst()
+                                .orElse(List.of());
+        }
+
+        private static Map<String, List<String>> byRole(Map<String, List<String>> routes) {
+                Map<String, List<String>> byRole = new LinkedHashMap<>();
+                routes.forEach((prefix, roles) -> roles.forEach(role -> byRole.merge(role, List.of(prefix),
+                                (existing, added) -> Stream.concat(existing.stream(), added.stream()).toList())));
+                return byRole;
+        }
+
+        private static RouteSecurityProperties shippedProperties() throws IOException {
+                Binder binder = new Binder(ConfigurationPropertySources.from(
+                                new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))));
+                return binder.bind("app.security", RouteSecurityProperties.class).get();
+        }
+}
@@ -1,5 +1,6 @@
 package com.example.authenticationservice.controller;
 
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -13,6 +14,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -22,16 +24,23 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.authenticationservice.domain.UserCredential;
+import com.example.authenticationservice.dto.BulkRegistrationStatus;
 import com.example.authenticationservice.dto.ChangePasswordRequest;
 import com.example.authenticationservice.dto.LoginRequest;
 import com.example.authenticationservice.dto.LoginResponse;
 import com.example.authenticationservice.dto.ProfileUpdateRequest;
+import com.example.authenticationservice.dto.RefreshResult;
 import com.example.authenticationservice.dto.RefreshTokenRequest;
 import com.example.authenticationservice.dto.RegisterRequest;
+import com.example.authenticationservice.dto.RevocationFeedResponse;
 import com.example.authenticationservice.dto.UserResponse;
 import com.example.authenticationservice.exception.AuthenticationException;
+import com.example.authenticationservice.exception.ForbiddenException;
 import com.example.authenticationservice.exception.InvalidRequestException;
 import com.example.authenticationservice.service.AuthService;
+import com.example.authenticationservice.service.JwtService;
+import com.example.authenticationservice.service.RefreshTokenService;
+import com.example.authenticationservice.service.TokenRevocationService;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
@@ -49,15 +58,28 @@ public class AuthController {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @PostConstruct
     public void init() {
         logger.info("=================================================");
         logger.info("AuthController Initialized and Ready!");
         logger.info("Available Endpoints:");
         logger.info("  POST   /auth/register");
+        logger.info("  POST   /auth/register/bulk");
+        logger.info("  POST   /auth/register/bulk/sync");
+        logger.info("  GET    /auth/register/bulk/{jobId}");
         logger.info("  POST   /auth/login");
         logger.info("  POST   /auth/logout");
         logger.info("  POST   /auth/refresh");
+        logger.info("  GET    /auth/revocations");
         logger.info("  GET    /auth/validate");
         logger.info("  GET    /auth/verify");
         logger.info("  GET    /auth/profile");
@@ -106,6 +128,72 @@ public class AuthController {
         }
     }
 
+    /**
+     * Queue a bulk registration job (FACULTY only); returns 202 with the job status
+     */
+    @PostMapping("/register/bulk")
+    public ResponseEntity<?> registerBulk(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody List<RegisterRequest> registerRequests) {
+        logger.info("===============================================");
+        logger.info("Controller: Bulk registration request received for {} users", registerRequests.size());
+
+        try {
+            requireFaculty(authHeader);
+
+            BulkRegistrationStatus status = authService.submitBulkRegistration(registerRequests);
+
+            logger.info("Controller: Bulk registration job {} accepted", status.getJobId());
+            logger.info("===============================================");
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+
+        } catch (InvalidRequestException | AuthenticationException | ForbiddenException e) {
+            logger.error("Controller: Bulk registration rejected: {}", e.getMessage());
+            logger.info("===============================================");
+            throw e;
+        }
+    }
+
+    /**
+     * Register a small batch (FACULTY only) and return each row's outcome and
+     * new user id; used by student-service's XLSX import
+     */
+    @PostMapping("/register/bulk/sync")
+    public ResponseEntity<BulkRegistrationStatus> registerBulkSync(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody List<RegisterRequest> registerRequests) {
+        logger.info("===============================================");
+        logger.info("Controller: Synchronous bulk registration request received for {} users",
+                registerRequests.size());
+
+        try {
+            requireFaculty(authHeader);
+
+            BulkRegistrationStatus status = authService.registerBulk(registerRequests);
+
+            logger.info("Controller: Synchronous bulk registration finished - Registered: {}, Skipped: {}, Failed: {}",
+                    status.getRegistered(), status.getSkipped(), status.getFailed());
+            logger.info("===============================================");
+
+            return ResponseEntity.ok(status);
+
+        } catch (InvalidRequestException | AuthenticationException | ForbiddenException e) {
+            logger.error("Controller: Synchronous bulk registration rejected: {}", e.getMessage());
+            logger.info("===============================================");
+            throw e;
+        }
+    }
+
+    @GetMapping("/register/bulk/{jobId}")
+    public ResponseEntity<BulkRegistrationStatus> getBulkRegistrationStatus(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @PathVariable String jobId) {
+        logger.debug("Controller: Bulk registration status requested for job {}", jobId);
+        requireFaculty(authHeader);
+        return ResponseEntity.ok(authService.getBulkRegistrationStatus(jobId));
+    }
+
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest,
             HttpServletRequest request) {
@@ -131,28 +219,11 @@ public class AuthController {
                 logger.debug("Controller: Fetching user details for: {}", loginRequest.getEmail());
                 UserCredential user = authService.getUserByEmail(loginRequest.getEmail());
 
-                UserResponse userResponse = UserResponse.builder()
-                        .id(user.getId())
-                        .email(user.getEmail())
-                        .role(user.getRole())
-                        .name(user.getName())
-                        .bio(user.getBio())
-                        .skills(user.getSkills())
-                        .githubProfileLink(user.getGithubProfileLink())
-                        .linkedInProfileLink(user.getLinkedInProfileLink())
-                        .portfolioLink(user.getPortfolioLink())
-                        .phone(user.getPhone())
-                        .location(user.getLocation())
-                        .ratings(user.getRatings())
-                        .projectsCompleted(user.getProjectsCompleted())
-                        .currentProjects(user.getCurrentProjects())
-                        .build();
-
                 LoginResponse response = LoginResponse.builder()
                         .accessToken(token)
-                        .refreshToken(token)
-                        .expiresIn(3600L)
-                        .user(userResponse)
+                        .refreshToken(refreshTokenService.issue(user))
+                        .expiresIn(jwtService.getTokenValiditySeconds())
+                        .user(toUserResponse(user))
                         .build();
 
                 logger.info("Controller: Login successful for user: {}, Role: {}, ID: {}",
@@ -186,12 +257,22 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletRequest request) {
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody(required = false) RefreshTokenRequest refreshRequest,
+            HttpServletRequest request) {
         logger.info("===============================================");
         logger.info("Controller: Logout request received");
         logger.debug("Controller: Request from IP: {}", request.getRemoteAddr());
 
         try {
+            String accessToken = authHeader != null && authHeader.startsWith("Bearer ")
+                    ? authHeader.substring(7)
+                    : null;
+            String refreshToken = refreshRequest != null ? refreshRequest.getRefreshToken() : null;
+
+            authService.logout(accessToken, refreshToken);
+
             logger.info("Controller: Logout successful");
             logger.info("===============================================");
 
@@ -212,16 +293,19 @@ public class AuthController {
         logger.info("Controller: Refresh token request received");
 
         try {
-            String refreshToken = request.getRefreshToken();
+            RefreshResult result = refreshTokenService.rotate(request.getRefreshToken());
 
-            authService.validateToken(refreshToken);
+            LoginResponse response = LoginResponse.builder()
+                    .accessToken(result.getAccessToken())
+                    .refreshToken(result.getRefreshToken())
+                    .expiresIn(jwtService.getTokenValiditySeconds())
+                    .user(toUserResponse(result.getUser()))
+                    .build();
 
-            logger.info("Controller: Token refresh successful");
+            logger.info("Controller: Token refresh successful for user ID: {}", result.getUser().getId());
             logger.info("===============================================");
 
-            return ResponseEntity.ok(Map.of(
-                    "accessToken", refreshToken,
-                    "message", "Token refreshed successfully"));
+            return ResponseEntity.ok(response);
 
         } catch (Exception e) {
             logger.error("Controller: Token refresh failed: {}", e.getMessage());
@@ -231,6 +315,17 @@ public class AuthController {
         }
     }
 
+    /**
+     * Revocation feed polled by the API Gateway
+     */
+    @GetMapping("/revocations")
+    public ResponseEntity<RevocationFeedResponse> getRevocations(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        logger.debug("Controller: Revocation feed requested since cursor {}", since);
+        return ResponseEntity.ok(tokenRevocationService.changesSince(since, limit));
+    }
+
     @GetMapping("/validate")
     public ResponseEntity<?> validateToken(@RequestParam String token, HttpServletRequest request) {
         logger.info("===============================================");
@@ -288,22 +383,7 @@ public class AuthController {
         try {
             UserCredential user = authService.getUserById(Long.parseLong(userId));
 
-            UserResponse userResponse = UserResponse.builder()
-                    .id(user.getId())
-                    .email(user.getEmail())
-                    .role(user.getRole())
-                    .name(user.getName())
-                    .bio(user.getBio())
-                    .skills(user.getSkills())
-                    .githubProfileLink(user.getGithubProfileLink())
-                    .linkedInProfileLink(user.getLinkedInProfileLink())
-                    .portfolioLink(user.getPortfolioLink())
-                    .phone(user.getPhone())
-                    .location(user.getLocation())
-                    .ratings(user.getRatings())
-                    .projectsCompleted(user.getProjectsCompleted())
-                    .currentProjects(user.getCurrentProjects())
-                    .build();
+            UserResponse userResponse = toUserResponse(user);
 
             logger.info("Controller: Profile fetched successfully for user: {}", userId);
             logger.info("===============================================");
@@ -389,4 +469,46 @@ public class AuthController {
             throw e;
         }
     }
+
+    private UserResponse toUserResponse(UserCredential user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .name(user.getName())
+                .bio(user.getBio())
+                .skills(user.getSkills())
+                .githubProfileLink(user.getGithubProfileLink())
+                .linkedInProfileLink(user.getLinkedInProfileLink())
+                .portfolioLink(user.getPortfolioLink())
+                .phone(user.getPhone())
+                .location(user.getLocation())
+                .ratings(user.getRatings())
+                .projectsCompleted(user.getProjectsCompleted())
+                .currentProjects(user.getCurrentProjects())
+                .build();
+    }
+
+    /**
+     * Bulk onboarding is restricted to faculty; the token is checked here because
+     * the route sits under the public /api/auth/register prefix at the Gateway.
+     * A missing or invalid token is a 401, a valid token of another role a 403.
+     */
+    private void requireFaculty(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new AuthenticationException("Missing or invalid Authorization header");
+        }
+        String role;
+        try {
+            String token = authHeader.substring(7);
+            jwtService.validateToken(token);
+            role = jwtService.extractRole(token);
+        } catch (Exception e) {
+            throw new AuthenticationException("Invalid token");
+        }
+        if (!"FACULTY".equals(role)) {
+            logger.warn("Controller: Bulk registration denied for role: {}", role);
+            throw new ForbiddenException("Access denied. Role '" + role + "' not allowed to register users in bulk");
+        }
+    }
 }
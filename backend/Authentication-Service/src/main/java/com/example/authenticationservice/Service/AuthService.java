@@ -10,6 +10,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.example.authenticationservice.domain.UserCredential;
+import com.example.authenticationservice.dto.BulkRegistrationStatus;
 import com.example.authenticationservice.dto.ChangePasswordRequest;
 import com.example.authenticationservice.dto.ProfileUpdateRequest;
 import com.example.authenticationservice.dto.RegisterRequest;
@@ -18,6 +19,8 @@ import com.example.authenticationservice.exception.AuthenticationException;
 import com.example.authenticationservice.exception.InvalidRequestException;
 import com.example.authenticationservice.repository.UserCredentialRepository;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.annotation.PostConstruct;
 
 @Service
@@ -34,38 +37,71 @@ public class AuthService {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private BulkRegistrationService bulkRegistrationService;
+
     @PostConstruct
     public void init() {
         logger.info("AuthService initialized and ready");
     }
 
-    public String saveUser(List<UserCredential> credentials) {
-        logger.info("Bulk user registration initiated for {} users", credentials.size());
-        logger.debug("User credentials to register: {}", credentials);
+    /**
+     * Queue a bulk registration job; progress is read with {@link #getBulkRegistrationStatus(String)}
+     */
+    public BulkRegistrationStatus submitBulkRegistration(List<RegisterRequest> requests) {
+        logger.info("Service: Bulk registration requested for {} users", requests.size());
 
-        try {
-            int registered = 0;
-            int skipped = 0;
-
-            for (UserCredential credential : credentials) {
-                if (!userCredentialRepository.existsByEmail(credential.getEmail())) {
-                    credential.setPassword(passwordEncoder.encode(credential.getPassword()));
-                    userCredentialRepository.save(credential);
-                    registered++;
-                    logger.debug("User registered: {}", credential.getEmail());
-                } else {
-                    skipped++;
-                    logger.debug("User already exists, skipped: {}", credential.getEmail());
-                }
-            }
+        if (requests.isEmpty()) {
+            throw new InvalidRequestException("No users to register");
+        }
+        return bulkRegistrationService.submit(toCredentials(requests));
+    }
 
-            logger.info("Bulk registration completed - Registered: {}, Skipped: {}", registered, skipped);
-            return "Users registered successfully - Registered: " + registered + ", Skipped: " + skipped;
+    /**
+     * Register up to BulkRegistrationService.MAX_SYNC_USERS users and return
+     * the outcome and new user id of each row
+     */
+    public BulkRegistrationStatus registerBulk(List<RegisterRequest> requests) {
+        logger.info("Service: Synchronous bulk registration requested for {} users", requests.size());
 
-        } catch (Exception e) {
-            logger.error("Error in bulk user registration: {}", e.getMessage(), e);
-            return "Failed to register users: " + e.getMessage();
+        if (requests.isEmpty()) {
+            throw new InvalidRequestException("No users to register");
         }
+        return bulkRegistrationService.registerAll(toCredentials(requests));
+    }
+
+    private List<UserCredential> toCredentials(List<RegisterRequest> requests) {
+        List<UserCredential> users = new ArrayList<>(requests.size());
+        for (RegisterRequest request : requests) {
+            UserCredential user = new UserCredential();
+            user.setEmail(request.getEmail());
+            user.setPassword(request.getPassword());
+            user.setRole(request.getRole());
+            user.setName(request.getName());
+
+            // Initialize default values
+            user.setSkills(new ArrayList<>());
+            user.setRatings(0.0);
+            user.setProjectsCompleted(0);
+            user.setCurrentProjects(0);
+            users.add(user);
+        }
+        return users;
+    }
+
+    public BulkRegistrationStatus getBulkRegistrationStatus(String jobId) {
+        BulkRegistrationStatus status = bulkRegistrationService.getStatus(jobId);
+        if (status == null) {
+            logger.warn("Service: Bulk registration job not found: {}", jobId);
+            throw new InvalidRequestException("Bulk registration job not found: " + jobId);
+        }
+        return status;
     }
 
     public UserResponse register(RegisterRequest request) {
@@ -163,6 +199,29 @@ public class AuthService {
         }
     }
 
+    /**
+     * End a session: revoke the access token until it expires and the
+     * refresh token family it belongs to. Invalid or expired tokens are ignored.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        logger.info("Service: Logout initiated");
+
+        if (accessToken != null && !accessToken.isBlank()) {
+            try {
+                Claims claims = jwtService.extractClaims(accessToken);
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Service: Access token not revocable: {}", e.getMessage());
+            }
+        }
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+
+        logger.info("Service: Logout completed");
+    }
+
     public UserCredential getUserByEmail(String email) {
         logger.debug("Service: Fetching user by email: {}", email);
 
@@ -293,6 +352,9 @@ public class AuthService {
             user.setPassword(passwordEncoder.encode(passwordRequest.getNewPassword()));
             userCredentialRepository.save(user);
 
+            // Existing sessions must log in again with the new password
+            refreshTokenService.revokeAllForUser(userId);
+
             logger.info("Service: Password changed successfully for user: {}", userId);
         } catch (AuthenticationException e) {
             logger.error("Service: Password change failed for {}: {}", userId, e.getMessage());
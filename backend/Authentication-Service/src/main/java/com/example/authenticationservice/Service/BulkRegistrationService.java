@@ -0,0 +1,312 @@
+package com.example.authenticationservice.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.authenticationservice.domain.UserCredential;
+import com.example.authenticationservice.dto.BulkRegistrationStatus;
+import com.example.authenticationservice.dto.BulkRegistrationStatus.Outcome;
+import com.example.authenticationservice.dto.BulkRegistrationStatus.RowResult;
+import com.example.authenticationservice.dto.BulkRegistrationStatus.State;
+import com.example.authenticationservice.exception.InvalidRequestException;
+import com.example.authenticationservice.repository.UserCredentialRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bulk user registration pipeline.
+ *
+ * Users are processed in chunks. For each chunk:
+ * 1. One IN query finds emails that are already registered
+ * 2. Passwords are BCrypt-hashed in parallel on passwordHashingExecutor
+ * 3. The chunk is inserted in its own short transaction with JDBC batching
+ *
+ * A DB connection is held only while a chunk is being inserted, not while
+ * passwords are hashed.
+ */
+@Service
+public class BulkRegistrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkRegistrationService.class);
+
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * Largest request registered synchronously; bigger uploads go through jobs
+     */
+    public static final int MAX_SYNC_USERS = CHUNK_SIZE;
+    private static final int MAX_REPORTED_ERRORS = 200;
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    @Autowired
+    private UserCredentialRepository userCredentialRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ThreadPoolTaskExecutor passwordHashingExecutor;
+
+    @Autowired
+    @Qualifier("bulkRegistrationJobExecutor")
+    private ThreadPoolTaskExecutor jobExecutor;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        logger.info("BulkRegistrationService initialized (chunk size: {})", CHUNK_SIZE);
+    }
+
+    /**
+     * Queue a bulk registration job
+     *
+     * @param users Users with plain-text passwords
+     * @return Initial job status; poll {@link #getStatus(String)} for progress
+     */
+    public BulkRegistrationStatus submit(List<UserCredential> users) {
+        purgeFinishedJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), users.size(), false);
+        jobs.put(job.id, job);
+
+        try {
+            jobExecutor.execute(() -> run(job, users));
+        } catch (RuntimeException e) {
+            jobs.remove(job.id);
+            logger.warn("Service: Bulk registration rejected - too many queued jobs");
+            throw new InvalidRequestException("Too many bulk registration jobs in progress, try again later");
+        }
+
+        logger.info("Service: Bulk registration job {} queued for {} users", job.id, users.size());
+        return job.snapshot();
+    }
+
+    /**
+     * @return Job status, or null if the job is unknown or has been purged
+     */
+    public BulkRegistrationStatus getStatus(String jobId) {
+        Job job = jobs.get(jobId);
+        return job == null ? null : job.snapshot();
+    }
+
+    /**
+     * Register users synchronously on the calling thread
+     *
+     * @return Final job status, with the outcome and new user id of every row
+     */
+    public BulkRegistrationStatus registerAll(List<UserCredential> users) {
+        if (users.size() > MAX_SYNC_USERS) {
+            throw new InvalidRequestException("At most " + MAX_SYNC_USERS + " users can be registered per request");
+        }
+        Job job = new Job(UUID.randomUUID().toString(), users.size(), true);
+        run(job, users);
+        return job.snapshot();
+    }
+
+    private void run(Job job, List<UserCredential> users) {
+        job.state = State.RUNNING;
+        job.startedAt = Instant.now();
+        logger.info("Service: Bulk registration job {} started", job.id);
+
+        try {
+            Set<String> seenEmails = new HashSet<>();
+            for (int from = 0; from < users.size(); from += CHUNK_SIZE) {
+                List<UserCredential> chunk = users.subList(from, Math.min(from + CHUNK_SIZE, users.size()));
+                processChunk(job, chunk, from, seenEmails);
+            }
+            job.state = State.COMPLETED;
+        } catch (Exception e) {
+            logger.error("Service: Bulk registration job {} failed: {}", job.id, e.getMessage(), e);
+            job.addError("job aborted: " + e.getMessage());
+            job.state = State.FAILED;
+        } finally {
+            job.finishedAt = Instant.now();
+            logger.info("Service: Bulk registration job {} finished - Registered: {}, Skipped: {}, Failed: {}",
+                    job.id, job.registered.get(), job.skipped.get(), job.failed.get());
+        }
+    }
+
+    private void processChunk(Job job, List<UserCredential> chunk, int offset, Set<String> seenEmails) {
+        // Validate rows and drop duplicates inside the upload itself
+        List<UserCredential> candidates = new ArrayList<>(chunk.size());
+        Map<UserCredential, Integer> rows = new IdentityHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            UserCredential user = chunk.get(i);
+            int row = offset + i + 1;
+
+            String problem = validate(user);
+            if (problem != null) {
+                job.failed.incrementAndGet();
+                job.addError("row " + row + " (" + user.getEmail() + "): " + problem);
+                job.record(row, user.getEmail(), Outcome.FAILED, null, problem);
+            } else if (!seenEmails.add(user.getEmail())) {
+                job.skipped.incrementAndGet();
+                job.record(row, user.getEmail(), Outcome.SKIPPED, null, "Duplicate email in upload");
+            } else {
+                candidates.add(user);
+                rows.put(user, row);
+            }
+        }
+
+        // One set-based query instead of existsByEmail per row
+        if (!candidates.isEmpty()) {
+            List<String> emails = candidates.stream().map(UserCredential::getEmail).toList();
+            Set<String> existing = new HashSet<>(userCredentialRepository.findExistingEmails(emails));
+            if (!existing.isEmpty()) {
+                candidates.removeIf(user -> {
+                    if (!existing.contains(user.getEmail())) {
+                        return false;
+                    }
+                    job.record(rows.get(user), user.getEmail(), Outcome.SKIPPED, null, "Email already registered");
+                    return true;
+                });
+                job.skipped.addAndGet(existing.size());
+            }
+        }
+
+        // BCrypt in parallel, outside any transaction
+        List<CompletableFuture<Void>> hashing = new ArrayList<>(candidates.size());
+        for (UserCredential user : candidates) {
+            hashing.add(CompletableFuture.runAsync(
+                    () -> user.setPassword(passwordEncoder.encode(user.getPassword())),
+                    passwordHashingExecutor));
+        }
+        CompletableFuture.allOf(hashing.toArray(new CompletableFuture[0])).join();
+
+        insert(job, candidates, rows);
+        job.processed.addAndGet(chunk.size());
+    }
+
+    private void insert(Job job, List<UserCredential> users, Map<UserCredential, Integer> rows) {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> userCredentialRepository.saveAll(users));
+            job.registered.addAndGet(users.size());
+            users.forEach(user -> job.record(rows.get(user), user.getEmail(), Outcome.REGISTERED, user.getId(), null));
+        } catch (Exception e) {
+            // A concurrent registration can win the unique email race; isolate the offending rows
+            logger.warn("Service: Batch insert failed ({}), retrying {} rows individually",
+                    e.getMessage(), users.size());
+            for (UserCredential user : users) {
+                user.setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userCredentialRepository.save(user));
+                    job.registered.incrementAndGet();
+                    job.record(rows.get(user), user.getEmail(), Outcome.REGISTERED, user.getId(), null);
+                } catch (Exception rowError) {
+                    job.failed.incrementAndGet();
+                    job.addError(user.getEmail() + ": " + rowError.getMessage());
+                    job.record(rows.get(user), user.getEmail(), Outcome.FAILED, null, rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    private String validate(UserCredential user) {
+        if (user.getEmail() == null || user.getEmail().isBlank()) {
+            return "Email is required";
+        }
+        if (user.getPassword() == null || user.getPassword().isBlank()) {
+            return "Password is required";
+        }
+        if (user.getName() == null || user.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (!"STUDENT".equals(user.getRole()) && !"FACULTY".equals(user.getRole())) {
+            return "Invalid role";
+        }
+        return null;
+    }
+
+    private void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    /**
+     * Mutable progress of one job; read through {@link #snapshot()}
+     */
+    private static final class Job {
+        private final String id;
+        private final int total;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger registered = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<String> errors = new CopyOnWriteArrayList<>();
+        // Only for synchronous registration; not capped, as those are at most MAX_SYNC_USERS rows
+        private final List<RowResult> results;
+        private volatile State state = State.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+
+        private Job(String id, int total, boolean recordResults) {
+            this.id = id;
+            this.total = total;
+            this.results = recordResults ? new ArrayList<>(total) : null;
+        }
+
+        private void addError(String error) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        private void record(int row, String email, Outcome outcome, Long userId, String reason) {
+            if (results != null) {
+                results.add(new RowResult(row, email, outcome, userId, reason));
+            }
+        }
+
+        private BulkRegistrationStatus snapshot() {
+            return BulkRegistrationStatus.builder()
+                    .jobId(id)
+                    .state(state)
+                    .total(total)
+                    .processed(processed.get())
+                    .registered(registered.get())
+                    .skipped(skipped.get())
+                    .failed(failed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errors(List.copyOf(errors))
+                    .results(results == null ? null : results.stream()
+                            .sorted(Comparator.comparingInt(RowResult::getRow))
+                            .toList())
+                    .build();
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.example.authenticationservice.service;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.Map;
-
-import javax.crypto.SecretKey;
+import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,12 +14,15 @@ import org.springframework.stereotype.Component;
 import com.example.authenticationservice.domain.UserCredential;
 import com.example.authenticationservice.exception.AuthenticationException;
 import com.example.authenticationservice.repository.UserCredentialRepository;
+import com.example.authenticationservice.security.JwtKeyRing;
+import com.example.authenticationservice.security.TokenHasher;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 
 @Component
@@ -30,23 +33,48 @@ public class JwtService {
     @Autowired
     private UserCredentialRepository userCredentialRepository;
 
-    @Value("${security.jwt.secret}")
-    public String SECRET;
+    @Autowired
+    private JwtKeyRing keyRing;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Value("${security.jwt.validation-cache.max-size:10000}")
+    private int validationCacheMaxSize;
 
     private static final long TOKEN_VALIDITY = 1000 * 60 * 30; // 30 minutes
 
+    /**
+     * Verified claims keyed by SHA-256 of the token; entries live until the
+     * token's exp, and the least valuable are evicted beyond the max size
+     */
+    private Cache<String, Claims> validationCache;
+
     @PostConstruct
     public void init() {
+        validationCache = Caffeine.newBuilder()
+                .maximumSize(validationCacheMaxSize)
+                .expireAfter(Expiry.<String, Claims>creating((key, claims) -> Duration.ofMillis(
+                        Math.max(claims.getExpiration().getTime() - System.currentTimeMillis(), 0))))
+                .build();
         logger.info("JwtService initialized with token validity: {} minutes", TOKEN_VALIDITY / 1000 / 60);
     }
 
+    /**
+     * Access token lifetime, as reported to clients in "expiresIn"
+     */
+    public long getTokenValiditySeconds() {
+        return TOKEN_VALIDITY / 1000;
+    }
+
     public void validateToken(String token) {
         logger.debug("Validating JWT token");
         try {
-            Jwts.parser()
-                    .verifyWith(getSignKey())
-                    .build()
-                    .parseSignedClaims(token);
+            Claims claims = extractAllClaims(token);
+            if (tokenRevocationService.isRevoked(claims.getId())) {
+                logger.warn("JWT token validation failed: token {} has been revoked", claims.getId());
+                throw new AuthenticationException("Token has been revoked");
+            }
             logger.debug("JWT token validation successful");
         } catch (JwtException e) {
             logger.error("JWT token validation failed: {}", e.getMessage());
@@ -60,11 +88,7 @@ public class JwtService {
     public String extractUsername(String token) {
         logger.debug("Extracting username from JWT token");
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSignKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = extractAllClaims(token);
             String username = claims.getSubject();
             logger.debug("Extracted username: {}", username);
             return username;
@@ -79,12 +103,14 @@ public class JwtService {
                 user.getEmail(), user.getId(), user.getRole());
         try {
             String token = Jwts.builder()
+                    .header().keyId(keyRing.getKeyId()).and()
+                    .id(UUID.randomUUID().toString())
                     .subject(user.getEmail())
                     .claim("userId", user.getId())
                     .claim("role", user.getRole())
                     .issuedAt(new Date(System.currentTimeMillis()))
                     .expiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY))
-                    .signWith(getSignKey())
+                    .signWith(keyRing.getSigningKey())
                     .compact();
 
             logger.info("JWT token generated successfully for user: {}", user.getEmail());
@@ -100,11 +126,12 @@ public class JwtService {
         logger.debug("Creating JWT token with custom claims for user: {}", userName);
         try {
             String token = Jwts.builder()
+                    .header().keyId(keyRing.getKeyId()).and()
                     .claims(claims)
                     .subject(userName)
                     .issuedAt(new Date(System.currentTimeMillis()))
                     .expiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY))
-                    .signWith(getSignKey())
+                    .signWith(keyRing.getSigningKey())
                     .compact();
             logger.debug("Token created successfully for user: {}", userName);
             return token;
@@ -140,15 +167,29 @@ public class JwtService {
         }
     }
 
+    /**
+     * Verified claims of a token (signature and expiry checked, revocation not)
+     */
+    public Claims extractClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     private Claims extractAllClaims(String token) {
         logger.trace("Extracting all claims from JWT token");
+        long now = System.currentTimeMillis();
+        String key = TokenHasher.sha256(token);
+
+        Claims cached = validationCache.getIfPresent(key);
+        if (cached != null && cached.getExpiration().getTime() > now) {
+            return cached;
+        }
+
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSignKey())
-                    .build()
+            Claims claims = keyRing.getParser()
                     .parseSignedClaims(token)
                     .getPayload();
             logger.trace("All claims extracted successfully");
+            cacheClaims(key, claims, now);
             return claims;
         } catch (Exception e) {
             logger.error("Failed to extract claims from token: {}", e.getMessage());
@@ -156,10 +197,14 @@ public class JwtService {
         }
     }
 
-    private SecretKey getSignKey() {
-        logger.trace("Generating signing key from secret");
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Only tokens with an expiry are cached
+     */
+    private void cacheClaims(String key, Claims claims, long now) {
+        if (claims.getExpiration() == null || claims.getExpiration().getTime() <= now) {
+            return;
+        }
+        validationCache.put(key, claims);
     }
 
     public UserCredential getUserByUsername(String username) {
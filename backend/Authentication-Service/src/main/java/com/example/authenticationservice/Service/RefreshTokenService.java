@@ -0,0 +1,146 @@
+package com.example.authenticationservice.service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.authenticationservice.domain.RefreshToken;
+import com.example.authenticationservice.domain.UserCredential;
+import com.example.authenticationservice.dto.RefreshResult;
+import com.example.authenticationservice.exception.AuthenticationException;
+import com.example.authenticationservice.repository.RefreshTokenRepository;
+import com.example.authenticationservice.security.TokenHasher;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Issues and rotates opaque refresh tokens.
+ *
+ * A refresh costs one indexed lookup (token hash, user fetched in the same
+ * query) plus one HMAC for the new access token - no BCrypt.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Value("${security.jwt.refresh-token.validity:P7D}")
+    private Duration refreshTokenValidity;
+
+    @PostConstruct
+    public void init() {
+        logger.info("RefreshTokenService initialized with refresh token validity: {}", refreshTokenValidity);
+    }
+
+    /**
+     * Start a new token family for a freshly authenticated user
+     *
+     * @return Raw refresh token to hand to the client
+     */
+    @Transactional
+    public String issue(UserCredential user) {
+        logger.debug("Service: Issuing refresh token for user ID: {}", user.getId());
+        return createToken(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     * Presenting an already used token revokes every token in its family.
+     *
+     * @throws AuthenticationException if the token is unknown, expired or reused
+     */
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public RefreshResult rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new AuthenticationException("Refresh token is required");
+        }
+
+        RefreshToken stored = refreshTokenRepository.findByTokenHashWithUser(TokenHasher.sha256(rawToken))
+                .orElseThrow(() -> new AuthenticationException("Invalid refresh token"));
+
+        if (stored.isRevoked() || refreshTokenRepository.markRevoked(stored.getId()) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            logger.warn("Service: Refresh token reuse detected for user ID: {} - revoked {} tokens in family {}",
+                    stored.getUser().getId(), revoked, stored.getFamilyId());
+            throw new AuthenticationException("Refresh token has already been used");
+        }
+
+        if (stored.getExpiresAt().isBefore(LocalDateTime.now())) {
+            logger.debug("Service: Expired refresh token presented for user ID: {}", stored.getUser().getId());
+            throw new AuthenticationException("Refresh token expired. Please login again");
+        }
+
+        UserCredential user = stored.getUser();
+        String refreshToken = createToken(user, stored.getFamilyId());
+        String accessToken = jwtService.generateToken(user);
+
+        logger.info("Service: Refresh token rotated for user ID: {}", user.getId());
+        return new RefreshResult(accessToken, refreshToken, user);
+    }
+
+    /**
+     * Revoke the family of a refresh token (logout)
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHashWithUser(TokenHasher.sha256(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * Revoke every refresh token of a user (password change)
+     */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllForUser(userId);
+        logger.info("Service: Revoked {} refresh tokens for user ID: {}", revoked, userId);
+    }
+
+    /**
+     * Delete expired tokens; used tokens are kept until they expire so reuse
+     * can still be detected
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.refresh-token.sweep-interval:PT1H}")
+    @Transactional
+    public void sweepExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Service: Removed {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String createToken(UserCredential user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = RefreshToken.builder()
+                .tokenHash(TokenHasher.sha256(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(LocalDateTime.now().plus(refreshTokenValidity))
+                .build();
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.authenticationservice.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.authenticationservice.domain.RevokedToken;
+import com.example.authenticationservice.dto.RevocationFeedResponse;
+import com.example.authenticationservice.repository.RevokedTokenRepository;
+
+/**
+ * Records revoked access tokens (by jti) and serves them as a cursor-based
+ * feed. The API Gateway polls the feed and rejects revoked tokens locally,
+ * so no request needs a call to this service.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    /**
+     * How long an insert may take to commit after its id was allocated. Rows
+     * revoked within this window are re-sent, since a lower id can still
+     * become visible after a higher one.
+     */
+    @Value("${security.revocation.feed-lag:PT30S}")
+    private Duration feedLag;
+
+    /**
+     * jti to expiry (epoch millis) of revocations known to this instance,
+     * used by JwtService for /validate and /verify
+     */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile long syncedCursor = 0L;
+
+    /**
+     * Revoke an access token until it expires
+     *
+     * @param jti       Token id ("jti" claim)
+     * @param expiresAt Token expiry
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        revoked.put(jti, expiresAt.toEpochMilli());
+        if (revokedTokenRepository.existsByJti(jti)) {
+            return;
+        }
+
+        try {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .jti(jti)
+                    .expiresAt(expiresAt)
+                    .revokedAt(Instant.now())
+                    .build());
+            logger.info("Service: Access token revoked - jti: {}", jti);
+        } catch (DataIntegrityViolationException e) {
+            // Concurrent logout with the same token
+            logger.debug("Service: Token already revoked - jti: {}", jti);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    /**
+     * Revocations recorded after a cursor
+     *
+     * A full page returns the id of its last entry, so paging moves forward.
+     * The last page returns a cursor no later than the newest revocation
+     * older than the feed lag: identity ids are taken at insert time, and a
+     * slow transaction can commit a lower id after a higher one was already
+     * served. Re-sent entries are harmless, every consumer puts by jti.
+     *
+     * @param since Cursor from a previous page (0 for everything)
+     * @param limit Maximum number of entries
+     */
+    @Transactional(readOnly = true)
+    public RevocationFeedResponse changesSince(long since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<RevokedToken> page = revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(
+                since, PageRequest.of(0, pageSize));
+
+        long cursor = page.isEmpty() ? since : page.get(page.size() - 1).getId();
+        if (page.size() < pageSize) {
+            cursor = Math.min(cursor, settledCursor());
+        }
+        List<RevocationFeedResponse.Entry> entries = page.stream()
+                .map(t -> new RevocationFeedResponse.Entry(t.getJti(), t.getExpiresAt().toEpochMilli()))
+                .toList();
+
+        return RevocationFeedResponse.builder()
+                .cursor(cursor)
+                .revocations(entries)
+                .build();
+    }
+
+    /**
+     * Newest id old enough that no lower id can still be uncommitted, as long
+     * as no insert takes longer than the feed lag
+     */
+    private long settledCursor() {
+        return revokedTokenRepository
+                .findFirstByRevokedAtLessThanEqualOrderByIdDesc(Instant.now().minus(feedLag))
+                .map(RevokedToken::getId)
+                .orElse(0L);
+    }
+
+    /**
+     * Pick up revocations recorded by other instances and forget expired ones
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval:PT10S}")
+    public void sync() {
+        RevocationFeedResponse page;
+        do {
+            page = changesSince(syncedCursor, MAX_PAGE_SIZE);
+            page.getRevocations().forEach(entry -> revoked.put(entry.getJti(), entry.getExpiresAt()));
+            syncedCursor = page.getCursor();
+        } while (page.getRevocations().size() == MAX_PAGE_SIZE);
+
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.sweep-interval:PT1H}")
+    @Transactional
+    public void sweepExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            logger.info("Service: Removed {} expired token revocations", deleted);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.authenticationservice.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for the bulk registration pipeline
+ */
+@Configuration
+public class BulkRegistrationConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkRegistrationConfig.class);
+
+    /**
+     * BCrypt is CPU bound: one thread per core, a short queue, and the caller
+     * hashes itself when the queue is full (natural back-pressure)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        logger.info("Creating password hashing executor with {} threads", cores);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(cores * 4);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs submitted bulk registration jobs one at a time; further jobs wait in
+     * the queue and are rejected once it is full
+     */
+    @Bean
+    public ThreadPoolTaskExecutor bulkRegistrationJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("bulk-registration-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.authenticationservice.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observes every Spring Data repository call as "repository.invocation"
+ *
+ * Each call becomes a span under the HTTP/Feign/AMQP span that made it, plus
+ * a timer tagged with repository and method, so the trace of a request shows
+ * how much of it was spent in the database.
+ */
+@Configuration
+public class RepositoryObservationConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryObservationConfig.class);
+
+    public static final String OBSERVATION_NAME = "repository.invocation";
+
+    /**
+     * Adds the observing interceptor to each repository proxy before it is built
+     * Static so the post-processor is registered without initializing this class early
+     */
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        logger.info("✓ Repository observation enabled: {}", OBSERVATION_NAME);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(observingInterceptor(
+                                    observationRegistry,
+                                    repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor observingInterceptor(ObjectProvider<ObservationRegistry> observationRegistry,
+            String repository) {
+        return invocation -> {
+            String method = invocation.getMethod().getName();
+            Observation observation = Observation
+                    .createNotStarted(OBSERVATION_NAME,
+                            observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                    .contextualName(repository + "." + method)
+                    .lowCardinalityKeyValue("repository", repository)
+                    .lowCardinalityKeyValue("method", method)
+                    .start();
+            try (Observation.Scope scope = observation.openScope()) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                observation.error(e);
+                throw e;
+            } finally {
+                observation.stop();
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.authenticationservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Moves users_seq past the ids already in the users table.
+ *
+ * UserCredential switched from IDENTITY to a pooled sequence (so Hibernate can
+ * batch inserts). On databases created before the switch, the new sequence
+ * starts at 1 while the table already has rows; this bumps it past the highest
+ * existing id (plus one allocation block) and never moves it back. It runs
+ * after Hibernate has updated the schema and before the web server accepts
+ * requests.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class UserIdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserIdSequenceInitializer.class);
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        try {
+            Long value = jdbcTemplate.queryForObject(
+                    "SELECT setval('users_seq', GREATEST("
+                            + "(SELECT COALESCE(MAX(id), 0) FROM users) + " + ALLOCATION_SIZE + ", "
+                            + "(SELECT last_value FROM users_seq)))",
+                    Long.class);
+            logger.info("users_seq aligned with users table (value: {})", value);
+        } catch (Exception e) {
+            logger.error("Failed to align users_seq with users table: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
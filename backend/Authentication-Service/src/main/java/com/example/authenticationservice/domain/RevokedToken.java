@@ -0,0 +1,42 @@
+package com.example.authenticationservice.domain;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Access token revoked before its expiry (logout).
+ *
+ * The id doubles as the cursor of the revocation feed polled by the API
+ * Gateway. Ids are allocated at insert, not at commit, so the feed keeps its
+ * cursor behind rows revoked within the last few seconds and re-sends them;
+ * rows are deleted once the token would have expired anyway.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "ux_revoked_tokens_jti", columnList = "jti", unique = true),
+        @Index(name = "ix_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "jti", nullable = false, length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
@@ -15,8 +15,11 @@ import java.util.List;
 @NoArgsConstructor
 public class UserCredential {
 
+    // Pooled sequence (not IDENTITY) so Hibernate can batch inserts;
+    // see UserIdSequenceInitializer for existing databases
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -0,0 +1,61 @@
+package com.example.authenticationservice.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress snapshot of a bulk registration job
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkRegistrationStatus {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String jobId;
+    private State state;
+    private int total;
+    private int processed;
+    private int registered;
+    private int skipped;
+    private int failed;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    /**
+     * Per-row problems (capped), e.g. "row 12 (a@b.c): Invalid role"
+     */
+    private List<String> errors;
+
+    /**
+     * Outcome of every row, in request order; only filled by synchronous
+     * registration, where callers need the new user ids
+     */
+    private List<RowResult> results;
+
+    public enum Outcome {
+        REGISTERED, SKIPPED, FAILED
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowResult {
+        /** 1-based position in the request */
+        private int row;
+        private String email;
+        private Outcome outcome;
+        /** Id of the new user when REGISTERED */
+        private Long userId;
+        private String reason;
+    }
+}
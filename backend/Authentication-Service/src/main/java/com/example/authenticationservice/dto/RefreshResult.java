@@ -0,0 +1,17 @@
+package com.example.authenticationservice.dto;
+
+import com.example.authenticationservice.domain.UserCredential;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of a refresh-token rotation
+ */
+@Data
+@AllArgsConstructor
+public class RefreshResult {
+    private String accessToken;
+    private String refreshToken;
+    private UserCredential user;
+}
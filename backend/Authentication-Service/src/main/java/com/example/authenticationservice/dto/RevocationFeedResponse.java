@@ -0,0 +1,35 @@
+package com.example.authenticationservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Page of the revocation feed polled by the API Gateway
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevocationFeedResponse {
+
+    /**
+     * Pass back as "since" to get the next page. The cursor of the last page
+     * stays behind recent revocations, so the next poll sends them again.
+     */
+    private long cursor;
+
+    private List<Entry> revocations;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Entry {
+        private String jti;
+        /** Token expiry in epoch milliseconds */
+        private long expiresAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.authenticationservice.exception;
+
+/**
+ * Caller is authenticated but its role is not allowed to perform the operation (403)
+ */
+public class ForbiddenException extends RuntimeException {
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -43,6 +43,26 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
         }
 
+        @ExceptionHandler(ForbiddenException.class)
+        public ResponseEntity<ErrorResponse> handleForbidden(
+                        ForbiddenException ex,
+                        HttpServletRequest request) {
+
+                logger.warn("Forbidden Exception - Path: {}, Message: {}",
+                                request.getRequestURI(), ex.getMessage());
+
+                ErrorResponse response = ErrorResponse.builder()
+                                .timestamp(Instant.now())
+                                .status(HttpStatus.FORBIDDEN.value())
+                                .error("FORBIDDEN")
+                                .message(ex.getMessage())
+                                .path(request.getRequestURI())
+                                .build();
+
+                logger.info("Returning FORBIDDEN response for path: {}", request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
         @ExceptionHandler(InvalidRequestException.class)
         public ResponseEntity<ErrorResponse> handleInvalidRequest(
                         InvalidRequestException ex,
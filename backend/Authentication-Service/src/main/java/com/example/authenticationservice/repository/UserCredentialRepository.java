@@ -1,10 +1,14 @@
 package com.example.authenticationservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.authenticationservice.domain.UserCredential;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,10 @@ public interface UserCredentialRepository extends JpaRepository<UserCredential,
     Optional<UserCredential> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Set-based existence check used by bulk registration
+     */
+    @Query("SELECT u.email FROM UserCredential u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
@@ -0,0 +1,105 @@
+package com.example.authenticationservice.security;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Holds the JWT signing keys and a shared, thread-safe parser.
+ *
+ * New tokens are signed with the current key and carry its id in the "kid"
+ * header. Tokens signed with a previous key stay valid until they expire, so
+ * the secret can be rotated without logging everyone out:
+ *
+ * security:
+ *   jwt:
+ *     secret: NEW_SECRET
+ *     key-id: 2025-02
+ *     previous-keys:
+ *       2025-01: OLD_SECRET
+ *
+ * Tokens without a "kid" (issued before key ids existed) are verified with
+ * the current key.
+ */
+@Component
+@ConfigurationProperties(prefix = "security.jwt")
+@Getter
+@Setter
+public class JwtKeyRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    /**
+     * Base64 secret of the current signing key
+     */
+    private String secret;
+
+    /**
+     * Id of the current signing key, written to the "kid" header
+     */
+    private String keyId = "primary";
+
+    /**
+     * Key id to base64 secret of keys that are still accepted for verification
+     */
+    private Map<String, String> previousKeys = new LinkedHashMap<>();
+
+    private SecretKey signingKey;
+
+    private Map<String, SecretKey> verificationKeys;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        this.signingKey = toKey(secret);
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        previousKeys.forEach((kid, previousSecret) -> keys.put(kid, toKey(previousSecret)));
+        keys.put(keyId, signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String kid = header.getKeyId();
+                        if (kid == null) {
+                            return signingKey;
+                        }
+                        SecretKey key = verificationKeys.get(kid);
+                        if (key == null) {
+                            throw new JwtException("Unknown signing key id: " + kid);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+
+        logger.info("JWT key ring initialized - current key id: {}, previous keys: {}",
+                keyId, previousKeys.keySet());
+    }
+
+    private static SecretKey toKey(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+    }
+}
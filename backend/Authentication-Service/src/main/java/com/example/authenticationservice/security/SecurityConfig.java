@@ -68,10 +68,15 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/auth/registerOne",
                                 "/api/auth/register", // Add /api prefix
+                                "/api/auth/register/bulk", // Faculty token checked in the controller
+                                "/api/auth/register/bulk/*",
                                 "/api/auth/login", // Add /api prefix
                                 "/api/auth/hello",
                                 "/api/auth/token", // Add /api prefix
                                 "/api/auth/validate", // Add /api prefix
+                                "/api/auth/refresh", // Refresh token is the credential
+                                "/api/auth/logout", // Revokes the tokens it is given
+                                "/api/auth/revocations", // Polled by the API Gateway
                                 "/actuator/**",
                                 "/api/auth/actuator/**",
                                 "/api/auth/user",
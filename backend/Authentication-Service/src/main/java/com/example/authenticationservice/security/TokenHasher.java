@@ -0,0 +1,29 @@
+package com.example.authenticationservice.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * SHA-256 digests of tokens, used as cache and storage keys so raw tokens
+ * never have to be kept in memory maps or database rows.
+ */
+public final class TokenHasher {
+
+    private TokenHasher() {
+    }
+
+    /**
+     * @param token Raw token
+     * @return Unpadded base64url SHA-256 digest (43 characters)
+     */
+    public static String sha256(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
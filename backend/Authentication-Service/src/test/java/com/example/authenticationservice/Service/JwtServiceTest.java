@@ -0,0 +1,179 @@
+package com.example.authenticationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.authenticationservice.domain.UserCredential;
+import com.example.authenticationservice.exception.AuthenticationException;
+import com.example.authenticationservice.security.JwtKeyRing;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Shared key ring and parser of JwtService, and its validation cache
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+
+    private static final String CURRENT_SECRET = secret("current-signing-key-for-auth-tests-0123456789");
+    private static final String PREVIOUS_SECRET = secret("previous-signing-key-for-auth-tests-012345678");
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private JwtKeyRing keyRing;
+
+    // Delegates to the key ring's parser so signature checks can be counted
+    private JwtParser parser;
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        keyRing = new JwtKeyRing();
+        keyRing.setSecret(CURRENT_SECRET);
+        keyRing.setKeyId("2025-02");
+        keyRing.setPreviousKeys(Map.of("2025-01", PREVIOUS_SECRET));
+        keyRing.init();
+        parser = mock(JwtParser.class, AdditionalAnswers.delegatesTo(keyRing.getParser()));
+        keyRing.setParser(parser);
+
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "keyRing", keyRing);
+        ReflectionTestUtils.setField(jwtService, "tokenRevocationService", tokenRevocationService);
+        ReflectionTestUtils.setField(jwtService, "validationCacheMaxSize", 100);
+        jwtService.init();
+
+        lenient().when(tokenRevocationService.isRevoked(any())).thenReturn(false);
+    }
+
+    @Test
+    void generatedTokenCarriesTheUserClaims() {
+        String token = jwtService.generateToken(user());
+
+        jwtService.validateToken(token);
+        assertThat(jwtService.extractUsername(token)).isEqualTo("prof@uni.edu");
+        assertThat(jwtService.extractUserId(token)).isEqualTo(42L);
+        assertThat(jwtService.extractRole(token)).isEqualTo("FACULTY");
+
+        Claims claims = jwtService.extractClaims(token);
+        assertThat(claims.getId()).isNotBlank();
+        // exp and iat are whole seconds, taken from two clock reads
+        assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime())
+                .isCloseTo(jwtService.getTokenValiditySeconds() * 1000, within(1000L));
+    }
+
+    @Test
+    void sameTokenIsVerifiedOnce() {
+        String token = jwtService.generateToken(user());
+
+        jwtService.validateToken(token);
+        jwtService.validateToken(token);
+        jwtService.extractUsername(token);
+        jwtService.extractUserId(token);
+        jwtService.extractRole(token);
+
+        verify(parser, times(1)).parseSignedClaims(anyString());
+    }
+
+    @Test
+    void revocationIsCheckedEvenWhenClaimsAreCached() {
+        String token = jwtService.generateToken(user());
+        jwtService.validateToken(token);
+        String jti = jwtService.extractClaims(token).getId();
+
+        when(tokenRevocationService.isRevoked(jti)).thenReturn(true);
+
+        assertThatThrownBy(() -> jwtService.validateToken(token))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessageContaining("revoked");
+        verify(parser, times(1)).parseSignedClaims(anyString());
+    }
+
+    @Test
+    void tokenSignedWithPreviousKeyIsValidUntilItExpires() {
+        String token = token("2025-01", PREVIOUS_SECRET, 60_000);
+
+        jwtService.validateToken(token);
+
+        assertThat(jwtService.extractUsername(token)).isEqualTo("prof@uni.edu");
+    }
+
+    @Test
+    void tokenWithoutKeyIdIsVerifiedWithCurrentKey() {
+        jwtService.validateToken(token(null, CURRENT_SECRET, 60_000));
+
+        assertThatThrownBy(() -> jwtService.validateToken(token(null, PREVIOUS_SECRET, 60_000)))
+                .isInstanceOf(AuthenticationException.class);
+    }
+
+    @Test
+    void unknownKeyIdIsRejected() {
+        String token = token("2024-12", CURRENT_SECRET, 60_000);
+
+        assertThatThrownBy(() -> jwtService.validateToken(token))
+                .isInstanceOf(AuthenticationException.class);
+    }
+
+    @Test
+    void rejectedTokensAreNotCached() {
+        String expired = token("2025-02", CURRENT_SECRET, -60_000);
+        String tampered = jwtService.generateToken(user()) + "x";
+
+        assertThatThrownBy(() -> jwtService.validateToken(expired)).isInstanceOf(AuthenticationException.class);
+        assertThatThrownBy(() -> jwtService.validateToken(expired)).isInstanceOf(AuthenticationException.class);
+        assertThatThrownBy(() -> jwtService.validateToken(tampered)).isInstanceOf(AuthenticationException.class);
+        assertThatThrownBy(() -> jwtService.validateToken(tampered)).isInstanceOf(AuthenticationException.class);
+
+        verify(parser, times(4)).parseSignedClaims(anyString());
+    }
+
+    private static UserCredential user() {
+        UserCredential user = new UserCredential();
+        user.setId(42L);
+        user.setEmail("prof@uni.edu");
+        user.setRole("FACULTY");
+        return user;
+    }
+
+    private static String token(String keyId, String base64Secret, long validityMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject("prof@uni.edu")
+                .claim("userId", 42L)
+                .claim("role", "FACULTY")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + validityMillis))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(base64Secret)))
+                .compact();
+    }
+
+    private static String secret(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
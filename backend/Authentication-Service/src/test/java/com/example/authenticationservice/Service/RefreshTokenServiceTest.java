@@ -0,0 +1,203 @@
+package com.example.authenticationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.authenticationservice.domain.RefreshToken;
+import com.example.authenticationservice.domain.UserCredential;
+import com.example.authenticationservice.dto.RefreshResult;
+import com.example.authenticationservice.exception.AuthenticationException;
+import com.example.authenticationservice.repository.RefreshTokenRepository;
+import com.example.authenticationservice.security.TokenHasher;
+
+/**
+ * Rotation and reuse detection of refresh tokens, over an in-memory
+ * refresh_tokens table
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final Duration VALIDITY = Duration.ofDays(7);
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    // refresh_tokens rows by id
+    private final Map<Long, RefreshToken> table = new ConcurrentHashMap<>();
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private RefreshTokenService refreshTokenService;
+
+    private UserCredential user;
+
+    @BeforeEach
+    void setUp() {
+        backRepositoryWithTable();
+
+        refreshTokenService = new RefreshTokenService();
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenRepository", refreshTokenRepository);
+        ReflectionTestUtils.setField(refreshTokenService, "jwtService", jwtService);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenValidity", VALIDITY);
+
+        user = new UserCredential();
+        user.setId(42L);
+        user.setEmail("prof@uni.edu");
+        user.setRole("FACULTY");
+        lenient().when(jwtService.generateToken(user)).thenReturn("access-token");
+    }
+
+    @Test
+    void issuedTokenIsStoredOnlyAsItsHash() {
+        String raw = refreshTokenService.issue(user);
+
+        RefreshToken stored = row(raw);
+        assertThat(stored.getTokenHash()).isEqualTo(TokenHasher.sha256(raw)).isNotEqualTo(raw);
+        assertThat(stored.getUser()).isSameAs(user);
+        assertThat(stored.isRevoked()).isFalse();
+        assertThat(stored.getExpiresAt()).isCloseTo(LocalDateTime.now().plus(VALIDITY), within(1, ChronoUnit.MINUTES));
+        assertThat(refreshTokenService.issue(user)).isNotEqualTo(raw);
+        assertThat(table.values()).extracting(RefreshToken::getFamilyId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void rotationUsesTheTokenAndIssuesTheNextOneInTheSameFamily() {
+        String raw = refreshTokenService.issue(user);
+
+        RefreshResult result = refreshTokenService.rotate(raw);
+
+        assertThat(result.getAccessToken()).isEqualTo("access-token");
+        assertThat(result.getUser()).isSameAs(user);
+        assertThat(result.getRefreshToken()).isNotEqualTo(raw);
+        assertThat(row(raw).isRevoked()).isTrue();
+        RefreshToken next = row(result.getRefreshToken());
+        assertThat(next.isRevoked()).isFalse();
+        assertThat(next.getFamilyId()).isEqualTo(row(raw).getFamilyId());
+
+        // The new token rotates in turn
+        assertThat(refreshTokenService.rotate(result.getRefreshToken()).getRefreshToken())
+                .isNotEqualTo(result.getRefreshToken());
+    }
+
+    @Test
+    void reusedTokenRevokesTheWholeFamily() {
+        String raw = refreshTokenService.issue(user);
+        String otherSession = refreshTokenService.issue(user);
+        String next = refreshTokenService.rotate(raw).getRefreshToken();
+
+        // The old token is replayed (stolen copy, or a client that did not store the new one)
+        assertThatThrownBy(() -> refreshTokenService.rotate(raw))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessageContaining("already been used");
+
+        assertThat(row(next).isRevoked()).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.rotate(next)).isInstanceOf(AuthenticationException.class);
+        // Other logins of the same user are a different family
+        assertThat(row(otherSession).isRevoked()).isFalse();
+        assertThat(refreshTokenService.rotate(otherSession).getAccessToken()).isEqualTo("access-token");
+    }
+
+    @Test
+    void concurrentRotationOfTheSameTokenIsTreatedAsReuse() {
+        String raw = refreshTokenService.issue(user);
+        RefreshToken stored = row(raw);
+        // Another request marked the token used after this one loaded it
+        doReturn(0).when(refreshTokenRepository).markRevoked(stored.getId());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(raw))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessageContaining("already been used");
+        assertThat(stored.isRevoked()).isTrue();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String raw = refreshTokenService.issue(user);
+        row(raw).setExpiresAt(LocalDateTime.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(raw))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessageContaining("expired");
+        assertThat(table).hasSize(1);
+    }
+
+    @Test
+    void unknownOrMissingTokenIsRejected() {
+        for (String raw : new String[] { null, " ", "not-a-refresh-token" }) {
+            assertThatThrownBy(() -> refreshTokenService.rotate(raw)).isInstanceOf(AuthenticationException.class);
+        }
+    }
+
+    @Test
+    void logoutRevokesTheFamily() {
+        String raw = refreshTokenService.issue(user);
+        String next = refreshTokenService.rotate(raw).getRefreshToken();
+
+        refreshTokenService.revoke(next);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(next)).isInstanceOf(AuthenticationException.class);
+    }
+
+    private RefreshToken row(String raw) {
+        String hash = TokenHasher.sha256(raw);
+        return table.values().stream()
+                .filter(token -> token.getTokenHash().equals(hash))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Same semantics as the queries in RefreshTokenRepository
+     */
+    private void backRepositoryWithTable() {
+        lenient().when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            token.setId(ids.incrementAndGet());
+            table.put(token.getId(), token);
+            return token;
+        });
+        lenient().when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenAnswer(invocation -> table
+                .values().stream()
+                .filter(token -> token.getTokenHash().equals(invocation.getArgument(0)))
+                .findFirst());
+        lenient().when(refreshTokenRepository.markRevoked(anyLong())).thenAnswer(invocation -> {
+            RefreshToken token = table.get((Long) invocation.getArgument(0));
+            if (token == null || token.isRevoked()) {
+                return 0;
+            }
+            token.setRevoked(true);
+            return 1;
+        });
+        lenient().when(refreshTokenRepository.revokeFamily(anyString())).thenAnswer(invocation -> {
+            List<RefreshToken> family = table.values().stream()
+                    .filter(token -> token.getFamilyId().equals(invocation.getArgument(0)) && !token.isRevoked())
+                    .toList();
+            family.forEach(token -> token.setRevoked(true));
+            return family.size();
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.facultyservice.client;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Predicate;
+
+import com.example.facultyservice.config.FeignClientConfig;
+
+import feign.FeignException;
+
+/**
+ * Decides which Feign errors count as failures for the circuit breakers
+ *
+ * Timeouts, connection errors and 5xx responses do. A 4xx response means the
+ * remote service answered and rejected the request, so it must not open a
+ * breaker. FeignClientConfig.errorDecoder returns checked exceptions, which
+ * reach the caller wrapped in UndeclaredThrowableException.
+ */
+public class RemoteFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        Throwable cause = throwable;
+        if (throwable instanceof UndeclaredThrowableException && throwable.getCause() != null) {
+            cause = throwable.getCause();
+        }
+
+        if (cause instanceof FeignException feignException) {
+            // status() is -1 when no response was received (timeout, refused connection)
+            return feignException.status() < 400 || feignException.status() >= 500;
+        }
+        return !(cause instanceof FeignClientConfig.BadRequestException
+                || cause instanceof FeignClientConfig.UnauthorizedException
+                || cause instanceof FeignClientConfig.ForbiddenException
+                || cause instanceof FeignClientConfig.NotFoundException);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.facultyservice.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Merges concurrent single-id lookups into batch calls
+ *
+ * Lookups are grouped by caller: the headers FeignClientConfig forwards
+ * (Authorization, X-User-Id, X-User-Role) form the key. The first caller of a
+ * group and window becomes its leader. A leader with no other lookup of its
+ * caller in progress loads at once, so sequential lookups never wait; otherwise
+ * it waits for the window, takes every id its group requested meanwhile and
+ * loads them with one batch call per maxBatchSize ids. The other callers block on their future. The leader makes
+ * the call on its own thread, so its request context (JWT forwarding) and
+ * trace are used for the batch; grouping by those headers means no lookup is
+ * ever made with another user's credentials. Callers of a group asking for
+ * the same id share one result.
+ *
+ * A batch result without an id completes that id with null.
+ */
+class RequestCoalescer<V> {
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Function<List<Integer>, Map<Integer, V>> batchLoader;
+    private final DistributionSummary batchSizes;
+
+    private final Object lock = new Object();
+    // Caller key -> pending lookups of that caller's current window
+    private final Map<String, Map<Integer, CompletableFuture<V>>> pending = new HashMap<>();
+    // Caller key -> get() calls of that caller in progress (queued, loading or waiting)
+    private final Map<String, Integer> active = new HashMap<>();
+
+    RequestCoalescer(Duration window, int maxBatchSize, Function<List<Integer>, Map<Integer, V>> batchLoader,
+            DistributionSummary batchSizes) {
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.batchLoader = batchLoader;
+        this.batchSizes = batchSizes;
+    }
+
+    V get(int id) {
+        String caller = currentCaller();
+        CompletableFuture<V> future;
+        boolean leader;
+        boolean concurrent;
+        synchronized (lock) {
+            concurrent = active.merge(caller, 1, Integer::sum) > 1;
+            Map<Integer, CompletableFuture<V>> group = pending.get(caller);
+            leader = group == null;
+            if (leader) {
+                group = new HashMap<>();
+                pending.put(caller, group);
+            }
+            future = group.computeIfAbsent(id, key -> new CompletableFuture<>());
+        }
+
+        try {
+            if (leader) {
+                // A lone lookup has nobody to batch with; load it right away
+                if (concurrent) {
+                    pause();
+                }
+                Map<Integer, CompletableFuture<V>> batch;
+                synchronized (lock) {
+                    batch = pending.remove(caller);
+                }
+                load(batch);
+            }
+
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            synchronized (lock) {
+                active.computeIfPresent(caller, (key, count) -> count == 1 ? null : count - 1);
+            }
+        }
+    }
+
+    /**
+     * Forwarded identity headers of the current request; empty outside a request
+     */
+    private static String currentCaller() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return "";
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        return request.getHeader("Authorization") + "|" + request.getHeader("X-User-Id")
+                + "|" + request.getHeader("X-User-Role");
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(window.toMillis());
+        } catch (InterruptedException e) {
+            // Flush right away; the interrupt stays visible to the caller
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void load(Map<Integer, CompletableFuture<V>> batch) {
+        List<Integer> ids = new ArrayList<>(batch.keySet());
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + maxBatchSize, ids.size()));
+            batchSizes.record(chunk.size());
+            try {
+                Map<Integer, V> result = batchLoader.apply(chunk);
+                chunk.forEach(id -> batch.get(id).complete(result.get(id)));
+            } catch (Throwable e) {
+                chunk.forEach(id -> batch.get(id).completeExceptionally(e));
+                if (e instanceof Error error) {
+                    throw error;
+                }
+            }
+        }
+    }
+}
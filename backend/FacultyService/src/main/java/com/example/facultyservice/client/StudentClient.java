@@ -0,0 +1,328 @@
+package com.example.facultyservice.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.facultyservice.dto.BulkStatusUpdateRequest;
+import com.example.facultyservice.dto.BulkStatusUpdateResult;
+import com.example.facultyservice.entity.Student;
+
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * StudentClient - Resilient access to student-service
+ *
+ * Every StudentInterface method has its own Resilience4j instances (named
+ * after the constants below, configured under resilience4j.* in application.yml):
+ * - Circuit breaker: fails fast while student-service is erroring or slow
+ * - Semaphore bulkhead: caps concurrent calls, so a slow student-service can
+ *   hold at most that many Tomcat threads; extra calls are rejected at once
+ * - Time limiter: its timeout is used as the Feign read timeout of the call,
+ *   so it is enforced on the calling thread (JWT forwarding and the trace
+ *   context stay intact)
+ *
+ * Read calls fall back to the last successful response (possibly stale);
+ * write calls fail with 503 while student-service is unavailable. 4xx
+ * responses are passed through unchanged.
+ */
+@Component
+public class StudentClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentClient.class);
+
+    public static final String GET_STUDENTS = "studentGetStudents";
+    public static final String GET_STUDENT_COUNT = "studentGetStudentCount";
+    public static final String GET_STUDENTS_BY_ID = "studentGetStudentsById";
+    public static final String UPDATE_AVAILABLE = "studentUpdateAvailable";
+    public static final String MAKE_UNAVAILABLE = "studentMakeUnavailable";
+    public static final String UPDATE_STATUS = "studentUpdateStatus";
+    public static final String UPDATE_RATINGS = "studentUpdateRatings";
+    public static final String GET_STUDENT_COUNTS = "studentGetStudentCounts";
+    public static final String GET_STUDENTS_BY_PROJECTS = "studentGetStudentsByProjects";
+    public static final String UPDATE_STATUSES = "studentUpdateStatuses";
+
+    private static final List<String> INSTANCES = List.of(GET_STUDENTS, GET_STUDENT_COUNT, GET_STUDENTS_BY_ID,
+            UPDATE_AVAILABLE, MAKE_UNAVAILABLE, UPDATE_STATUS, UPDATE_RATINGS,
+            GET_STUDENT_COUNTS, GET_STUDENTS_BY_PROJECTS, UPDATE_STATUSES);
+
+    private static final RemoteFailurePredicate REMOTE_FAILURE = new RemoteFailurePredicate();
+
+    @Autowired
+    private StudentInterface studentInterface;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private TimeLimiterRegistry timeLimiterRegistry;
+
+    @Value("${spring.cloud.openfeign.client.config.student-service.connect-timeout:2000}")
+    private long connectTimeoutMs;
+
+    private final Map<String, Request.Options> requestOptions = new ConcurrentHashMap<>();
+
+    // Last successful read responses, served while student-service is unavailable.
+    // Bounded by the number of students/projects, which is small.
+    private final Map<Integer, Student> studentsById = new ConcurrentHashMap<>();
+    private final Map<Integer, List<Student>> studentsByProject = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> studentCountByProject = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        // Create every instance up front so metrics and health show them before the first call
+        for (String name : INSTANCES) {
+            circuitBreakerRegistry.circuitBreaker(name);
+            bulkheadRegistry.bulkhead(name);
+            Duration timeout = timeLimiterRegistry.timeLimiter(name).getTimeLimiterConfig().getTimeoutDuration();
+            requestOptions.put(name, new Request.Options(connectTimeoutMs, TimeUnit.MILLISECONDS,
+                    timeout.toMillis(), TimeUnit.MILLISECONDS, true));
+            logger.info("✓ {} - timeout: {}, max concurrent calls: {}", name, timeout,
+                    bulkheadRegistry.bulkhead(name).getBulkheadConfig().getMaxConcurrentCalls());
+        }
+    }
+
+    // ==================== Reads (cached fallback) ====================
+
+    public List<Student> getStudents(int projectId) {
+        try {
+            List<Student> students = listBody(call(GET_STUDENTS,
+                    options -> studentInterface.getStudents(projectId, options)));
+            studentsByProject.put(projectId, students);
+            return students;
+        } catch (RuntimeException e) {
+            List<Student> cached = studentsByProject.get(projectId);
+            if (cached == null || !isUnavailable(e)) {
+                throw translate(GET_STUDENTS, e);
+            }
+            logger.warn("⚠️ {} degraded - serving cached students of project {}: {}",
+                    GET_STUDENTS, projectId, e.getMessage());
+            return cached;
+        }
+    }
+
+    public int getStudentCountByProject(int projectId) {
+        try {
+            ResponseEntity<Integer> response = call(GET_STUDENT_COUNT,
+                    options -> studentInterface.getStudentCountByProject(projectId, options));
+            int count = response.getBody() != null ? response.getBody() : 0;
+            studentCountByProject.put(projectId, count);
+            return count;
+        } catch (RuntimeException e) {
+            Integer cached = studentCountByProject.get(projectId);
+            if (cached == null || !isUnavailable(e)) {
+                throw translate(GET_STUDENT_COUNT, e);
+            }
+            logger.warn("⚠️ {} degraded - serving cached count of project {}: {}",
+                    GET_STUDENT_COUNT, projectId, e.getMessage());
+            return cached;
+        }
+    }
+
+    /**
+     * Students by id; while student-service is unavailable only the cached
+     * students are returned, so the result may be shorter than studentIds
+     */
+    public List<Student> getStudentsById(List<Integer> studentIds) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<Student> students = listBody(call(GET_STUDENTS_BY_ID,
+                    options -> studentInterface.getStudentsById(studentIds, options)));
+            students.forEach(student -> studentsById.put(student.getStudentId(), student));
+            return students;
+        } catch (RuntimeException e) {
+            if (!isUnavailable(e)) {
+                throw translate(GET_STUDENTS_BY_ID, e);
+            }
+            List<Student> cached = new ArrayList<>();
+            for (Integer id : studentIds) {
+                Student student = studentsById.get(id);
+                if (student != null) {
+                    cached.add(student);
+                }
+            }
+            if (cached.isEmpty()) {
+                throw translate(GET_STUDENTS_BY_ID, e);
+            }
+            logger.warn("⚠️ {} degraded - serving {} of {} students from cache: {}",
+                    GET_STUDENTS_BY_ID, cached.size(), studentIds.size(), e.getMessage());
+            return cached;
+        }
+    }
+
+    // ==================== Batch reads (cached fallback) ====================
+
+    /**
+     * Application counts for many projects in one call; while student-service
+     * is unavailable only the cached projects are present in the result
+     */
+    public Map<Integer, Integer> getStudentCountsByProjects(List<Integer> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            ResponseEntity<Map<Integer, Long>> response = call(GET_STUDENT_COUNTS,
+                    options -> studentInterface.getStudentCountsByProjects(projectIds, options));
+            Map<Integer, Integer> counts = new LinkedHashMap<>();
+            if (response.getBody() != null) {
+                response.getBody().forEach((projectId, count) -> counts.put(projectId, count.intValue()));
+            }
+            studentCountByProject.putAll(counts);
+            return counts;
+        } catch (RuntimeException e) {
+            if (!isUnavailable(e)) {
+                throw translate(GET_STUDENT_COUNTS, e);
+            }
+            Map<Integer, Integer> cached = cachedSubset(projectIds, studentCountByProject);
+            logger.warn("⚠️ {} degraded - serving {} of {} counts from cache: {}",
+                    GET_STUDENT_COUNTS, cached.size(), projectIds.size(), e.getMessage());
+            return cached;
+        }
+    }
+
+    /**
+     * Applicants of many projects in one call; while student-service is
+     * unavailable only the cached projects are present in the result
+     */
+    public Map<Integer, List<Student>> getStudentsByProjects(List<Integer> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            ResponseEntity<Map<Integer, List<Student>>> response = call(GET_STUDENTS_BY_PROJECTS,
+                    options -> studentInterface.getStudentsByProjects(projectIds, options));
+            Map<Integer, List<Student>> students = response.getBody() != null ? response.getBody() : Map.of();
+            students.forEach((projectId, projectStudents) -> {
+                studentsByProject.put(projectId, projectStudents);
+                projectStudents.forEach(student -> studentsById.put(student.getStudentId(), student));
+            });
+            return students;
+        } catch (RuntimeException e) {
+            if (!isUnavailable(e)) {
+                throw translate(GET_STUDENTS_BY_PROJECTS, e);
+            }
+            Map<Integer, List<Student>> cached = cachedSubset(projectIds, studentsByProject);
+            logger.warn("⚠️ {} degraded - serving {} of {} projects from cache: {}",
+                    GET_STUDENTS_BY_PROJECTS, cached.size(), projectIds.size(), e.getMessage());
+            return cached;
+        }
+    }
+
+    // ==================== Writes (no fallback) ====================
+
+    public void updateStudentsAvailable(int projectId) {
+        write(UPDATE_AVAILABLE, options -> studentInterface.updateStudentsAvailable(projectId, options));
+    }
+
+    public void makeUnavailable(int studentId) {
+        write(MAKE_UNAVAILABLE, options -> {
+            studentInterface.makeUnavailable(studentId, options);
+            return null;
+        });
+    }
+
+    public void updateStatus(int studentId, int projectId) {
+        write(UPDATE_STATUS, options -> {
+            studentInterface.updateStatus(studentId, projectId, options);
+            return null;
+        });
+    }
+
+    public void updateRatings(int projectId, float rating) {
+        write(UPDATE_RATINGS, options -> studentInterface.updateRatings(projectId, rating, options));
+    }
+
+    /**
+     * Set one status on many applications in one call
+     */
+    public BulkStatusUpdateResult updateStatuses(BulkStatusUpdateRequest request) {
+        if (request.getApplications() == null || request.getApplications().isEmpty()) {
+            return new BulkStatusUpdateResult();
+        }
+        ResponseEntity<BulkStatusUpdateResult> response = write(UPDATE_STATUSES,
+                options -> studentInterface.updateStatuses(request, options));
+        return response.getBody() != null ? response.getBody() : new BulkStatusUpdateResult();
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Invoke a Feign method inside its circuit breaker and bulkhead
+     * Bulkhead rejections are ignored by the breaker (see application.yml)
+     */
+    private <T> T call(String name, Function<Request.Options, T> request) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        Request.Options options = requestOptions.get(name);
+        return CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, () -> request.apply(options))).get();
+    }
+
+    private <T> T write(String name, Function<Request.Options, T> request) {
+        try {
+            return call(name, request);
+        } catch (RuntimeException e) {
+            throw translate(name, e);
+        }
+    }
+
+    private boolean isUnavailable(Throwable e) {
+        return e instanceof CallNotPermittedException
+                || e instanceof BulkheadFullException
+                || REMOTE_FAILURE.test(e);
+    }
+
+    /**
+     * Unavailability becomes 503; anything else (e.g. a 4xx from student-service) is rethrown
+     */
+    private RuntimeException translate(String name, RuntimeException e) {
+        if (!isUnavailable(e)) {
+            return e;
+        }
+        logger.error("❌ {} failed - student-service unavailable: {}", name, e.getMessage());
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Student service unavailable (" + name + ")", e);
+    }
+
+    private List<Student> listBody(ResponseEntity<List<Student>> response) {
+        return response.getBody() != null ? response.getBody() : List.of();
+    }
+
+    private <V> Map<Integer, V> cachedSubset(List<Integer> projectIds, Map<Integer, V> cache) {
+        Map<Integer, V> cached = new LinkedHashMap<>();
+        for (Integer projectId : projectIds) {
+            V value = cache.get(projectId);
+            if (value != null) {
+                cached.put(projectId, value);
+            }
+        }
+        return cached;
+    }
+}
@@ -4,31 +4,62 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.facultyservice.dto.BulkStatusUpdateRequest;
+import com.example.facultyservice.dto.BulkStatusUpdateResult;
 import com.example.facultyservice.entity.Student;
 
+import feign.Request;
+
 import java.util.List;
+import java.util.Map;
 
-@FeignClient(name = "student-service", url = "${student-service.url:http://localhost:8084}")
+/**
+ * Feign client for student-service
+ *
+ * Call it through StudentClient, which adds the circuit breaker, bulkhead and
+ * fallbacks. The trailing Request.Options argument is the per-method time
+ * limit (connect/read timeout) and is not sent.
+ *
+ * The batch methods answer many projects in one round trip; single-project
+ * reads are merged into them by StudentRequestCoalescer.
+ */
+@FeignClient(name = "student-service",
+        url = "${student-service.url:${services.student.url}${services.student.base-path}}")
 public interface StudentInterface {
 
     @PutMapping("students/available/{projectId}")
-    ResponseEntity<String> updateStudentsAvailable(@PathVariable int projectId);
+    ResponseEntity<String> updateStudentsAvailable(@PathVariable int projectId, Request.Options options);
 
     @GetMapping("/api/studentProject/students/{projectId}")
-    ResponseEntity<List<Student>> getStudents(@PathVariable int projectId);
+    ResponseEntity<List<Student>> getStudents(@PathVariable int projectId, Request.Options options);
 
     @GetMapping("/api/studentProject/{projectId}/student-count")
-    ResponseEntity<Integer> getStudentCountByProject(@PathVariable int projectId);
+    ResponseEntity<Integer> getStudentCountByProject(@PathVariable int projectId, Request.Options options);
 
     @PostMapping("/students/byIds")
-    ResponseEntity<List<Student>> getStudentsById(@RequestBody List<Integer> studentIds);
+    ResponseEntity<List<Student>> getStudentsById(@RequestBody List<Integer> studentIds, Request.Options options);
 
     @PutMapping("/students/{studentId}/unavailable")
-    void makeUnavailable(@PathVariable int studentId);
+    void makeUnavailable(@PathVariable int studentId, Request.Options options);
 
     @PutMapping("/api/studentProject/updateStatus/{studentId}/{projectId}")
-    void updateStatus(@PathVariable int studentId, @PathVariable int projectId);
+    void updateStatus(@PathVariable int studentId, @PathVariable int projectId, Request.Options options);
 
     @PutMapping("/api/studentProject/{projectId}/rating/{rating}")
-    ResponseEntity<String> updateRatings(@PathVariable int projectId, @PathVariable float rating);
+    ResponseEntity<String> updateRatings(@PathVariable int projectId, @PathVariable float rating,
+            Request.Options options);
+
+    // ==================== Batch ====================
+
+    @PostMapping("/api/studentProject/batch/student-counts")
+    ResponseEntity<Map<Integer, Long>> getStudentCountsByProjects(@RequestBody List<Integer> projectIds,
+            Request.Options options);
+
+    @PostMapping("/api/studentProject/batch/students")
+    ResponseEntity<Map<Integer, List<Student>>> getStudentsByProjects(@RequestBody List<Integer> projectIds,
+            Request.Options options);
+
+    @PutMapping("/api/studentProject/batch/status")
+    ResponseEntity<BulkStatusUpdateResult> updateStatuses(@RequestBody BulkStatusUpdateRequest request,
+            Request.Options options);
 }
@@ -0,0 +1,92 @@
+package com.example.facultyservice.client;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.facultyservice.entity.Student;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Single-project student lookups, coalesced into student-service batch calls
+ *
+ * Pages that ask for the students or application count of one project at a
+ * time (e.g. once per listed project) should use this instead of
+ * StudentClient's single-project methods. Lookups of the same caller (same
+ * forwarded JWT and user headers) arriving within
+ * student.client.coalescing.window are sent as one batch request, through
+ * StudentClient so the breakers and fallbacks still apply. Code that already
+ * holds the whole list of project ids (e.g. FacultyService's project
+ * dashboard) calls StudentClient's batch methods directly instead.
+ *
+ * With coalescing disabled every lookup is a single batch call of one id.
+ * Batch sizes are recorded as student.client.coalesced.batch.size.
+ */
+@Component
+public class StudentRequestCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentRequestCoalescer.class);
+
+    @Autowired
+    private StudentClient studentClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${student.client.coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${student.client.coalescing.window:5ms}")
+    private Duration window;
+
+    @Value("${student.client.coalescing.max-batch-size:100}")
+    private int maxBatchSize;
+
+    private RequestCoalescer<Integer> studentCounts;
+    private RequestCoalescer<List<Student>> studentsByProject;
+
+    @PostConstruct
+    public void init() {
+        Duration effectiveWindow = enabled ? window : Duration.ZERO;
+        studentCounts = new RequestCoalescer<>(effectiveWindow, maxBatchSize,
+                studentClient::getStudentCountsByProjects, batchSizeSummary("student-counts"));
+        studentsByProject = new RequestCoalescer<>(effectiveWindow, maxBatchSize,
+                studentClient::getStudentsByProjects, batchSizeSummary("students"));
+        logger.info("✓ Student request coalescing {} - Window: {}, Max batch size: {}",
+                enabled ? "enabled" : "disabled", effectiveWindow, maxBatchSize);
+    }
+
+    public int getStudentCount(int projectId) {
+        return require(studentCounts.get(projectId), projectId);
+    }
+
+    public List<Student> getStudents(int projectId) {
+        return require(studentsByProject.get(projectId), projectId);
+    }
+
+    // A project missing from the batch result was neither returned nor cached
+    private <V> V require(V value, int projectId) {
+        if (value == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Student data unavailable for project " + projectId);
+        }
+        return value;
+    }
+
+    private DistributionSummary batchSizeSummary(String operation) {
+        return DistributionSummary.builder("student.client.coalesced.batch.size")
+                .description("Project ids per coalesced student-service batch call")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -70,9 +70,9 @@ public class CorrelationIdFilter implements Filter {
 
             chain.doFilter(request, response);
         } finally {
-            // Clean up MDC
+            // Clean up MDC (only our key; trace/span IDs belong to the tracing scope)
             logger.debug("Cleaning up MDC for correlation ID: {}", correlationId);
-            MDC.clear();
+            MDC.remove(CORRELATION_ID_KEY);
             logger.debug("Completed request {} {} with correlation ID: {}", method, uri, correlationId);
         }
     }
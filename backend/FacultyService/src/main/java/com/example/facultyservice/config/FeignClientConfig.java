@@ -1,6 +1,5 @@
 package com.example.facultyservice.config;
 
-import feign.Logger;
 import feign.RequestInterceptor;
 import feign.codec.ErrorDecoder;
 import org.slf4j.LoggerFactory;
@@ -17,9 +16,12 @@ import jakarta.servlet.http.HttpServletRequest;
  * 
  * Purpose:
  * - Configure HTTP client for inter-service communication
- * - Add request interceptors for headers (JWT, Correlation ID)
+ * - Add request interceptors for headers (JWT, user context)
  * - Set up error handling for failed requests
- * - Enable request/response logging
+ * 
+ * Transport (pooled Apache HttpClient 5), timeouts and logger level are set
+ * per client under spring.cloud.openfeign.client.config; see also
+ * FeignHttpClientConfig.
  * 
  * Used for:
  * - Faculty Service → Student Service communication
@@ -32,23 +34,15 @@ public class FeignClientConfig {
     @Value("${jwt.secret}")
     private String jwtSecret;
 
-    /**
-     * Feign Logger Level
-     * FULL = Log headers, body, and metadata for both requests and responses
-     */
-    @Bean
-    public Logger.Level feignLoggerLevel() {
-        logger.info("Configuring Feign logger level: FULL");
-        return Logger.Level.FULL;
-    }
-
     /**
      * Request Interceptor
      * Adds necessary headers to all Feign requests
      * - Authorization: JWT token from incoming request
-     * - X-Correlation-Id: For request tracing
      * - X-User-Id: Current user ID
      * - X-User-Role: Current user role
+     *
+     * traceparent and X-Correlation-Id (baggage) are added by the Micrometer
+     * observation capability that feign-micrometer registers on every client.
      */
     @Bean
     public RequestInterceptor requestInterceptor() {
@@ -68,13 +62,6 @@ public class FeignClientConfig {
                     logger.debug("✓ Added Authorization header to Feign request");
                 }
 
-                // Forward Correlation ID for request tracking
-                String correlationId = request.getHeader("X-Correlation-Id");
-                if (correlationId != null && !correlationId.isEmpty()) {
-                    requestTemplate.header("X-Correlation-Id", correlationId);
-                    logger.debug("✓ Added X-Correlation-Id: {}", correlationId);
-                }
-
                 // Forward User ID
                 String userId = request.getHeader("X-User-Id");
                 if (userId != null && !userId.isEmpty()) {
@@ -0,0 +1,46 @@
+package com.example.facultyservice.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.core5.util.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keep-alive tuning for the pooled Apache HttpClient 5 behind the Feign clients
+ *
+ * Spring Cloud OpenFeign builds the client and its connection pool from
+ * spring.cloud.openfeign.httpclient.*. This caps how long a connection is
+ * reused after a response and evicts idle ones in the background, so a call
+ * is never sent on a socket the other service has already closed.
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeignHttpClientConfig.class);
+
+    @Value("${app.feign.keep-alive:15s}")
+    private Duration keepAlive;
+
+    @Bean
+    public HttpClientBuilderCustomizer feignKeepAliveCustomizer() {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAlive.toMillis());
+        logger.info("✓ Feign HTTP client keep-alive: {}", keepAlive);
+
+        return builder -> builder
+                // Honour a shorter Keep-Alive timeout announced by the server
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue announced = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(announced) && announced.compareTo(maxKeepAlive) < 0
+                            ? announced
+                            : maxKeepAlive;
+                })
+                .evictIdleConnections(maxKeepAlive);
+    }
+}
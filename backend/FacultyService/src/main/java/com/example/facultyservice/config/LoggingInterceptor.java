@@ -1,37 +1,68 @@
 package com.example.facultyservice.config;
 
+import java.time.Duration;
 import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.http.Outcome;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Logs each request and records it in the cls.http.requests timer
+ *
+ * The timer is tagged with the matched route template (e.g. /api/faculty/{id}),
+ * never the raw URI, so the number of series stays bounded. Percentiles,
+ * histogram and SLO buckets are configured under
+ * management.metrics.distribution.*.cls.http.requests.
+ */
 @Component
 public class LoggingInterceptor implements HandlerInterceptor {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingInterceptor.class);
 
+    public static final String TIMER_NAME = "cls.http.requests";
+
+    private static final String SAMPLE_ATTRIBUTE = LoggingInterceptor.class.getName() + ".sample";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.http.slow-request-threshold:1s}")
+    private Duration slowThreshold;
+
+    @Value("${app.http.very-slow-request-threshold:3s}")
+    private Duration verySlowThreshold;
+
     @PostConstruct
     public void init() {
-        logger.info("LoggingInterceptor initialized and ready to intercept requests");
+        logger.info("LoggingInterceptor initialized and ready to intercept requests (slow: {}, very slow: {})",
+                slowThreshold, verySlowThreshold);
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        long startTime = System.currentTimeMillis();
-        request.setAttribute("startTime", startTime);
+        request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
 
         // Log incoming request
         logger.info("==> Incoming Request: {} {}", request.getMethod(), request.getRequestURI());
-        logger.debug("Request Headers: {}", getHeaders(request));
-        logger.debug("Request Parameters: {}", request.getQueryString());
-        logger.debug("Remote Address: {}", request.getRemoteAddr());
-        logger.debug("Content Type: {}", request.getContentType());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request Headers: {}", getHeaders(request));
+            logger.debug("Request Parameters: {}", request.getQueryString());
+            logger.debug("Remote Address: {}", request.getRemoteAddr());
+            logger.debug("Content Type: {}", request.getContentType());
+        }
 
         return true;
     }
@@ -40,20 +71,28 @@ public class LoggingInterceptor implements HandlerInterceptor {
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
             Object handler, Exception ex) {
 
-        Long startTimeAttr = (Long) request.getAttribute("startTime");
-        if (startTimeAttr == null) {
-            logger.warn("startTime attribute not found in request");
+        Timer.Sample sample = (Timer.Sample) request.getAttribute(SAMPLE_ATTRIBUTE);
+        if (sample == null) {
+            logger.warn("Timer sample not found in request");
             return;
         }
 
-        long startTime = startTimeAttr;
-        long duration = System.currentTimeMillis() - startTime;
+        // An exception that reached here was not resolved and ends up as a 500
+        int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        long durationNanos = sample.stop(Timer.builder(TIMER_NAME)
+                .description("HTTP requests handled by controllers")
+                .tag("uri", routeTemplate(request, status))
+                .tag("method", request.getMethod())
+                .tag("status", String.valueOf(status))
+                .tag("outcome", Outcome.forStatus(status).name())
+                .register(meterRegistry));
+        long duration = TimeUnit.NANOSECONDS.toMillis(durationNanos);
 
         // Log outgoing response
         logger.info("<== Outgoing Response: {} {} - Status: {} - Duration: {}ms",
                 request.getMethod(),
                 request.getRequestURI(),
-                response.getStatus(),
+                status,
                 duration);
 
         if (ex != null) {
@@ -63,23 +102,36 @@ public class LoggingInterceptor implements HandlerInterceptor {
                     ex.getMessage(), ex);
         }
 
-        // Log slow requests (more than 1 second)
-        if (duration > 1000) {
-            logger.warn("⚠️ SLOW REQUEST DETECTED: {} {} took {}ms",
+        if (duration > verySlowThreshold.toMillis()) {
+            logger.error("🔥 VERY SLOW REQUEST DETECTED: {} {} took {}ms - PERFORMANCE ISSUE!",
                     request.getMethod(),
                     request.getRequestURI(),
                     duration);
-        }
-
-        // Log very slow requests (more than 3 seconds)
-        if (duration > 3000) {
-            logger.error("🔥 VERY SLOW REQUEST DETECTED: {} {} took {}ms - PERFORMANCE ISSUE!",
+        } else if (duration > slowThreshold.toMillis()) {
+            logger.warn("⚠️ SLOW REQUEST DETECTED: {} {} took {}ms",
                     request.getMethod(),
                     request.getRequestURI(),
                     duration);
         }
     }
 
+    /**
+     * Route template chosen by the handler mapping, or a fixed bucket when none matched
+     */
+    private String routeTemplate(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        if (status == 404) {
+            return "NOT_FOUND";
+        }
+        if (status >= 300 && status < 400) {
+            return "REDIRECTION";
+        }
+        return "UNKNOWN";
+    }
+
     private String getHeaders(HttpServletRequest request) {
         StringBuilder headers = new StringBuilder();
         Enumeration<String> headerNames = request.getHeaderNames();
@@ -0,0 +1,48 @@
+package com.example.facultyservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.facultyservice.notification.broker.NotificationBroadcaster;
+
+/**
+ * AMQP fan-out for WebSocket notifications (notification.broker.mode=amqp)
+ *
+ * Each replica declares its own server-named, exclusive, auto-delete queue
+ * bound to the existing topic exchange, so every replica receives every
+ * broadcast and the queue disappears with the replica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "notification.broker.mode", havingValue = NotificationBroadcaster.MODE_AMQP)
+public class NotificationBrokerConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationBrokerConfig.class);
+
+    @Value("${notification.broker.routing-key:notification.broadcast}")
+    private String routingKey;
+
+    @Bean
+    public Queue notificationBroadcastQueue() {
+        AnonymousQueue queue = new AnonymousQueue();
+        logger.info("Creating notification broadcast queue: {}", queue.getName());
+        return queue;
+    }
+
+    @Bean
+    public Binding notificationBroadcastBinding(Queue notificationBroadcastQueue, TopicExchange facultyExchange) {
+        logger.info("Binding notification broadcast queue with routing key '{}'", routingKey);
+        return BindingBuilder
+                .bind(notificationBroadcastQueue)
+                .to(facultyExchange)
+                .with(routingKey);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.facultyservice.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for WebSocket pushes of bulk notifications
+ *
+ * The thread count caps how many pushes run at once; when the queue is full
+ * the sending thread performs the push itself, which slows the producer
+ * instead of dropping messages.
+ */
+@Configuration
+public class NotificationPushConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPushConfig.class);
+
+    @Value("${notification.push.concurrency:8}")
+    private int concurrency;
+
+    @Value("${notification.push.queue-capacity:5000}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor notificationPushExecutor() {
+        logger.info("Creating notification push executor - Threads: {}, Queue: {}", concurrency, queueCapacity);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-push-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.facultyservice.config;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.retry.backoff.ExponentialBackOffPolicy;
 import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
@@ -43,6 +49,18 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing-key}")
     private String routingKey;
 
+    @Value("${rabbitmq.overflow:reject-publish}")
+    private String overflow;
+
+    @Value("${rabbitmq.listener.batch-size:50}")
+    private int batchSize;
+
+    @Value("${rabbitmq.listener.receive-timeout-ms:1000}")
+    private long batchReceiveTimeoutMs;
+
+    @Value("${rabbitmq.idempotency.in-progress-delay:30s}")
+    private Duration inProgressDelay;
+
     @PostConstruct
     public void init() {
         logger.info("=================================================");
@@ -50,6 +68,10 @@ public class RabbitMQConfig {
         logger.info("Exchange: {}", exchange);
         logger.info("Queue: {}", queue);
         logger.info("Routing Key: {}", routingKey);
+        if (!List.of("reject-publish", "reject-publish-dlx", "drop-head").contains(overflow)) {
+            throw new IllegalStateException("Unsupported rabbitmq.overflow: " + overflow
+                    + " (expected reject-publish, reject-publish-dlx or drop-head)");
+        }
         logger.info("=================================================");
     }
 
@@ -59,10 +81,16 @@ public class RabbitMQConfig {
      */
     @Bean
     public Queue facultyQueue() {
-        logger.info("Creating queue: {}", queue);
+        logger.info("Creating queue: {} (overflow: {})", queue, overflow);
         return QueueBuilder.durable(queue)
                 .withArgument("x-message-ttl", 86400000) // 24 hours TTL
                 .withArgument("x-max-length", 10000) // Max 10000 messages
+                // What happens at max length: reject-publish nacks new publishes (backpressure
+                // reaches the outbox publisher), drop-head dead-letters the oldest message
+                .withArgument("x-overflow", overflow)
+                // Rejected, expired and dropped messages go to the DLQ instead of vanishing
+                .withArgument("x-dead-letter-exchange", exchange + ".dlx")
+                .withArgument("x-dead-letter-routing-key", queue + ".dlq")
                 .build();
     }
 
@@ -122,6 +150,33 @@ public class RabbitMQConfig {
                 .with(queue + ".dlq");
     }
 
+    /**
+     * Parking lot for poison messages that keep failing after DLQ replays
+     * Nothing consumes it; messages wait here for manual inspection
+     */
+    @Bean
+    public Queue parkingLotQueue() {
+        String parkingName = queue + ".parking";
+        logger.info("Creating parking lot queue: {}", parkingName);
+        return QueueBuilder.durable(parkingName).build();
+    }
+
+    /**
+     * Delay queue for messages whose id is claimed by another consumer
+     * Nothing consumes it; after the TTL messages are dead-lettered back to
+     * the exchange with the main routing key and delivered again
+     */
+    @Bean
+    public Queue inProgressRetryQueue() {
+        String retryName = queue + ".retry";
+        logger.info("Creating delay queue: {} (delay: {})", retryName, inProgressDelay);
+        return QueueBuilder.durable(retryName)
+                .withArgument("x-message-ttl", inProgressDelay.toMillis())
+                .withArgument("x-dead-letter-exchange", exchange)
+                .withArgument("x-dead-letter-routing-key", routingKey)
+                .build();
+    }
+
     /**
      * JSON Message Converter
      * Converts Java objects to JSON for message serialization
@@ -137,16 +192,40 @@ public class RabbitMQConfig {
      * Configured with JSON converter and retry policy
      */
     @Bean
+    @Primary
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         logger.info("Configuring RabbitTemplate with retry policy");
 
+        RabbitTemplate template = createTemplate(connectionFactory);
+        template.setRetryTemplate(retryTemplate());
+
+        logger.info("✓ RabbitTemplate configured successfully");
+        return template;
+    }
+
+    /**
+     * RabbitTemplate for the notification outbox
+     * No retry policy: the outbox publisher sends while holding row locks, so a
+     * failed send has to return at once; the rows stay PENDING and the
+     * publisher backs off itself
+     */
+    @Bean
+    public RabbitTemplate outboxRabbitTemplate(ConnectionFactory connectionFactory) {
+        RabbitTemplate template = createTemplate(connectionFactory);
+        logger.info("✓ Outbox RabbitTemplate configured (no send retries)");
+        return template;
+    }
+
+    private RabbitTemplate createTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(jsonMessageConverter());
-        template.setRetryTemplate(retryTemplate());
 
         // Enable mandatory flag to get returns for unroutable messages
         template.setMandatory(true);
 
+        // Producer span per send; trace context goes out in the message headers
+        template.setObservationEnabled(true);
+
         // Callback for returned messages
         template.setReturnsCallback(returned -> {
             logger.warn("Message returned: Exchange={}, RoutingKey={}, ReplyText={}",
@@ -165,7 +244,6 @@ public class RabbitMQConfig {
             }
         });
 
-        logger.info("✓ RabbitTemplate configured successfully");
         return template;
     }
 
@@ -208,8 +286,47 @@ public class RabbitMQConfig {
         factory.setConcurrentConsumers(3); // 3 concurrent consumers
         factory.setMaxConcurrentConsumers(10); // Scale up to 10
         factory.setDefaultRequeueRejected(false); // Don't requeue failed messages
+        factory.setObservationEnabled(true); // Consumer span continuing the producer's trace
 
         logger.info("✓ Listener container factory configured");
         return factory;
     }
+
+    /**
+     * Batch Listener Container Factory
+     * Delivers up to batchSize messages per listener call; a partial batch is
+     * handed over after receiveTimeout. A failing batch is retried in-process
+     * (exponential backoff) and then rejected without requeue; listeners use
+     * IdempotencyStore so messages already applied are skipped on retry. The
+     * retries take seconds while a claim lease lasts minutes, so listeners must
+     * not fail the batch for a message claimed elsewhere; they park it on the
+     * delay queue (inProgressRetryQueue) instead.
+     * Container observation covers single messages only; batch listeners open
+     * a span per message from its headers (see NotificationEventListener).
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchReceiveTimeoutMs);
+        factory.setPrefetchCount(Math.max(10, batchSize)); // A full batch must fit in the prefetch window
+        factory.setConcurrentConsumers(3);
+        factory.setMaxConcurrentConsumers(10);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(3)
+                .backOffOptions(1000, 2.0, 10000)
+                .recoverer(new RejectAndDontRequeueRecoverer())
+                .build());
+
+        logger.info("✓ Batch listener container factory configured - Batch size: {}, Receive timeout: {} ms",
+                batchSize, batchReceiveTimeoutMs);
+        return factory;
+    }
 }
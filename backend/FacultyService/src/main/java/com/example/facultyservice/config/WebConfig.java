@@ -24,8 +24,11 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final CorrelationIdInterceptor correlationIdInterceptor;
 
-    public WebConfig(CorrelationIdInterceptor correlationIdInterceptor) {
+    private final LoggingInterceptor loggingInterceptor;
+
+    public WebConfig(CorrelationIdInterceptor correlationIdInterceptor, LoggingInterceptor loggingInterceptor) {
         this.correlationIdInterceptor = correlationIdInterceptor;
+        this.loggingInterceptor = loggingInterceptor;
     }
 
     @PostConstruct
@@ -37,5 +40,10 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         logger.info("Registering CorrelationIdInterceptor");
         registry.addInterceptor(correlationIdInterceptor);
+
+        logger.info("Registering LoggingInterceptor for all paths (/**) excluding /actuator/**");
+        registry.addInterceptor(loggingInterceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/actuator/**");
     }
 }
@@ -2,11 +2,13 @@ package com.example.facultyservice.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import jakarta.annotation.PostConstruct;
 
@@ -16,6 +18,18 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketConfig.class);
 
+    @Value("${notification.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${notification.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${notification.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${notification.broker.mode:simple}")
+    private String brokerMode;
+
     @PostConstruct
     public void init() {
         logger.info("=================================================");
@@ -28,9 +42,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry config) {
         logger.info("Configuring WebSocket Message Broker...");
 
-        // Enable a simple in-memory message broker
+        // Enable a simple in-memory message broker; it only reaches sessions on
+        // this replica, so notification.broker.mode=amqp fans messages out to
+        // every replica's broker (see NotificationBroadcaster)
         config.enableSimpleBroker("/topic", "/queue");
-        logger.info("Simple broker enabled with destinations: /topic, /queue");
+        logger.info("Simple broker enabled with destinations: /topic, /queue (fan-out mode: {})", brokerMode);
 
         // Prefix for messages bound for methods annotated with @MessageMapping
         config.setApplicationDestinationPrefixes("/app");
@@ -39,6 +55,20 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         logger.info("WebSocket Message Broker configuration completed successfully");
     }
 
+    /**
+     * Per-session outbound limits: a slow client can buffer at most
+     * sendBufferSizeLimit bytes or stall a send for sendTimeLimitMs before its
+     * session is closed, instead of holding memory for every pending message
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+        logger.info("WebSocket transport limits - Send time: {} ms, Send buffer: {} bytes, Message size: {} bytes",
+                sendTimeLimitMs, sendBufferSizeLimit, messageSizeLimit);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         logger.info("Registering STOMP WebSocket endpoints...");
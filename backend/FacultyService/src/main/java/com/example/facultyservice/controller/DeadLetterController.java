@@ -0,0 +1,82 @@
+package com.example.facultyservice.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.example.facultyservice.messaging.DeadLetterReplayJob;
+import com.example.facultyservice.messaging.DeadLetterService;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Operator endpoints for the faculty queue's dead letter queue
+ */
+@RestController
+@RequestMapping("/api/messaging/dlq")
+@PreAuthorize("hasRole('FACULTY')")
+@Slf4j
+public class DeadLetterController {
+
+    @Autowired
+    private DeadLetterService deadLetterService;
+
+    @PostConstruct
+    public void init() {
+        log.info("=================================================");
+        log.info("DeadLetterController initialized and ready!");
+        log.info("Available Endpoints:");
+        log.info("  GET    /api/messaging/dlq");
+        log.info("  POST   /api/messaging/dlq/replay");
+        log.info("  GET    /api/messaging/dlq/replay/{jobId}");
+        log.info("=================================================");
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStats() {
+        log.info("===============================================");
+        log.info("Controller: GET /api/messaging/dlq - Dead letter queue stats");
+
+        Map<String, Object> stats = deadLetterService.getStats();
+        log.info("Controller: DLQ depth: {}", stats.get("deadLetterDepth"));
+        log.info("===============================================");
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Start a replay in the background; 202 with the job, poll its Location for the outcome
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayJob> replay(
+            @RequestParam(defaultValue = "100") int maxMessages,
+            @RequestParam(defaultValue = "50") int ratePerSecond) {
+        log.info("===============================================");
+        log.info("Controller: POST /api/messaging/dlq/replay - Max: {}, Rate: {}/s", maxMessages, ratePerSecond);
+
+        DeadLetterReplayJob job = deadLetterService.startReplay(maxMessages, ratePerSecond);
+        log.info("Controller: DLQ replay {} started", job.getId());
+        log.info("===============================================");
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                        .path("/{jobId}").buildAndExpand(job.getId()).toUri())
+                .body(job);
+    }
+
+    @GetMapping("/replay/{jobId}")
+    public ResponseEntity<DeadLetterReplayJob> getReplay(@PathVariable String jobId) {
+        log.debug("Controller: GET /api/messaging/dlq/replay/{}", jobId);
+        return deadLetterService.getReplayJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -13,8 +13,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.facultyservice.dto.FacultySummaryPage;
+import com.example.facultyservice.dto.ProjectDashboardItem;
 import com.example.facultyservice.entity.Faculty;
 import com.example.facultyservice.service.FacultyService;
 
@@ -38,7 +41,9 @@ public class FacultyController {
         log.info("FacultyController initialized and ready!");
         log.info("Available Endpoints:");
         log.info("  GET    /api/faculty");
+        log.info("  GET    /api/faculty/summaries");
         log.info("  GET    /api/faculty/{id}");
+        log.info("  GET    /api/faculty/{id}/projects/dashboard");
         log.info("  GET    /api/faculty/email/{email}");
         log.info("  POST   /api/faculty");
         log.info("  PUT    /api/faculty/{id}");
@@ -67,6 +72,30 @@ public class FacultyController {
         }
     }
 
+    /**
+     * Faculty listing without bio/skills
+     * GET /api/faculty/summaries?page=0&size=20&sort=name,asc  (offset)
+     * GET /api/faculty/summaries?after=120&size=20             (keyset, id order)
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<FacultySummaryPage> getFacultySummaries(
+            @RequestParam(required = false) Integer after,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        log.info("===============================================");
+        log.info("Controller: GET /api/faculty/summaries - After: {}, Page: {}, Size: {}, Sort: {}",
+                after, page, size, sort);
+
+        FacultySummaryPage summaries = after != null
+                ? facultyService.getFacultySummariesAfter(after, size)
+                : facultyService.getFacultySummaries(page, size, sort);
+        log.info("Controller: Returning {} faculty summaries (more: {})",
+                summaries.getItems().size(), summaries.isHasMore());
+        log.info("===============================================");
+        return ResponseEntity.ok(summaries);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Faculty> getFacultyById(@PathVariable Integer id, HttpServletRequest request) {
         log.info("===============================================");
@@ -93,6 +122,20 @@ public class FacultyController {
         }
     }
 
+    /**
+     * Faculty member's projects with application counts, for the dashboard
+     */
+    @GetMapping("/{id}/projects/dashboard")
+    public ResponseEntity<List<ProjectDashboardItem>> getProjectDashboard(@PathVariable Integer id) {
+        log.info("===============================================");
+        log.info("Controller: GET /api/faculty/{}/projects/dashboard", id);
+
+        List<ProjectDashboardItem> items = facultyService.getProjectDashboard(id);
+        log.info("Controller: Returning {} dashboard projects for faculty {}", items.size(), id);
+        log.info("===============================================");
+        return ResponseEntity.ok(items);
+    }
+
     @GetMapping("/email/{email}")
     public ResponseEntity<Faculty> getFacultyByEmail(@PathVariable String email, HttpServletRequest request) {
         log.info("===============================================");
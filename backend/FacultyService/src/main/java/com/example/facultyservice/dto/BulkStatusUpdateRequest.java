@@ -0,0 +1,31 @@
+package com.example.facultyservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.facultyservice.entity.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of student-service's PUT /api/studentProject/batch/status
+ *
+ * status must also exist in student-service's Status (e.g. APPROVED, REJECTED).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+    private Status status;
+    private List<ApplicationKey> applications = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ApplicationKey {
+        private int studentId;
+        private int projectId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.facultyservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Response of student-service's bulk status update; notFound lists unknown applications
+ */
+@Data
+public class BulkStatusUpdateResult {
+    private int requested;
+    private int updated;
+    private List<BulkStatusUpdateRequest.ApplicationKey> notFound = new ArrayList<>();
+}
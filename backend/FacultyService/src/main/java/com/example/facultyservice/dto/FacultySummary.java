@@ -0,0 +1,18 @@
+package com.example.facultyservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Listing view of a faculty member (no bio, no skills)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacultySummary {
+    private Integer id;
+    private String name;
+    private String department;
+    private Double ratings;
+}
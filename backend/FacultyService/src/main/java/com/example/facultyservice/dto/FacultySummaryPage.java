@@ -0,0 +1,25 @@
+package com.example.facultyservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of faculty summaries
+ *
+ * Offset mode (?page=) fills page and totalElements. Keyset mode (?after=)
+ * fills nextCursor instead, which is passed back as ?after= for the next page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacultySummaryPage {
+    private List<FacultySummary> items;
+    private Integer page;
+    private Long totalElements;
+    // Keyset mode: id of the last item; null on the last page
+    private Integer nextCursor;
+    private boolean hasMore;
+}
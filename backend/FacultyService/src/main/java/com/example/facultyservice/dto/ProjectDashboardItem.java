@@ -0,0 +1,25 @@
+package com.example.facultyservice.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.facultyservice.entity.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One project on a faculty member's dashboard, with its application count
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDashboardItem {
+    private Integer projectId;
+    private String title;
+    private Status status;
+    private LocalDateTime applicationDeadline;
+    private Integer maxStudents;
+    // Null while student-service is unavailable and the count is not cached
+    private Integer applicants;
+}
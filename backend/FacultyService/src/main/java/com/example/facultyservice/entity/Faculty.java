@@ -1,6 +1,11 @@
 package com.example.facultyservice.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.example.facultyservice.search.SearchIndexListener;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,7 +14,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "faculty")
+// Read-mostly: cached in the second-level cache, invalidated by Hibernate on update/delete
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -34,6 +43,9 @@ public class Faculty {
     private String bio;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    // Listing all faculty loads skills for 50 faculty per query instead of one query each
+    @BatchSize(size = 50)
     @CollectionTable(name = "faculty_skills", joinColumns = @JoinColumn(name = "faculty_id"))
     @Column(name = "skill")
     private List<String> skills = new ArrayList<>();
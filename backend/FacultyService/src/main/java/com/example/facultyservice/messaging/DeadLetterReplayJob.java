@@ -0,0 +1,32 @@
+package com.example.facultyservice.messaging;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+/**
+ * A DLQ replay running in the background; polled through
+ * GET /api/messaging/dlq/replay/{id}
+ */
+@Data
+public class DeadLetterReplayJob {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String id;
+    private int maxMessages;
+    private int ratePerSecond;
+    private LocalDateTime startedAt;
+
+    // Written by the replay thread, read by status requests
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    // Set when the job completes
+    private volatile DeadLetterReplayResult result;
+    // Set when the job fails
+    private volatile String error;
+}
@@ -0,0 +1,14 @@
+package com.example.facultyservice.messaging;
+
+import lombok.Data;
+
+@Data
+public class DeadLetterReplayResult {
+    private int replayed;
+    // Poison messages moved to the parking lot queue
+    private int parked;
+    private int failed;
+    // DLQ depth after the replay, -1 if unknown
+    private long remaining;
+    private String stopReason;
+}
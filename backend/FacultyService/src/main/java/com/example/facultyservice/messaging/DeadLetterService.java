@@ -0,0 +1,386 @@
+package com.example.facultyservice.messaging;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * DeadLetterService - Inspection and replay of the faculty queue's DLQ
+ *
+ * Messages reach the DLQ when a listener rejects them after its retries, when
+ * their TTL expires, or when the queue overflows (drop-head / reject-publish-dlx).
+ * The reason comes from the broker's x-death header and is counted per reason
+ * as messages are replayed (rabbitmq.dlq.replayed). The depth of the DLQ and
+ * the parking lot is exported as the rabbitmq.dlq.messages gauge.
+ *
+ * Replay takes messages off the DLQ one at a time with a manual ack and
+ * republishes them to the original exchange/routing key. The DLQ copy is only
+ * acked after the broker confirms the republish, so a failed replay leaves the
+ * message where it was. A message that has already been replayed max-replays
+ * times is treated as poison and moved to the parking lot queue instead.
+ * Replays run one at a time on a background thread; callers get a job id and
+ * poll getReplayJob().
+ */
+@Service
+public class DeadLetterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterService.class);
+
+    public static final String REPLAY_COUNT_HEADER = "x-replay-count";
+
+    private static final int MAX_MESSAGES_PER_REPLAY = 5000;
+    private static final int MAX_RATE_PER_SECOND = 500;
+    private static final int MAX_JOBS_KEPT = 20;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private AmqpAdmin amqpAdmin;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rabbitmq.exchange}")
+    private String exchange;
+
+    @Value("${rabbitmq.queue}")
+    private String queue;
+
+    @Value("${rabbitmq.routing-key}")
+    private String routingKey;
+
+    @Value("${rabbitmq.dlq.max-replays:3}")
+    private int maxReplays;
+
+    @Value("${rabbitmq.dlq.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+
+    private String deadLetterQueue;
+    private String parkingLotQueue;
+
+    private ThreadPoolTaskExecutor replayExecutor;
+
+    // Most recent replay jobs by id; guarded by synchronized(jobs)
+    private final Map<String, DeadLetterReplayJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DeadLetterReplayJob> eldest) {
+            return size() > MAX_JOBS_KEPT && eldest.getValue().getStatus() != DeadLetterReplayJob.Status.RUNNING;
+        }
+    };
+    private DeadLetterReplayJob runningJob;
+
+    @PostConstruct
+    public void init() {
+        this.deadLetterQueue = queue + ".dlq";
+        this.parkingLotQueue = queue + ".parking";
+
+        // One replay at a time: concurrent replays would compete for the same DLQ
+        this.replayExecutor = new ThreadPoolTaskExecutor();
+        replayExecutor.setCorePoolSize(1);
+        replayExecutor.setMaxPoolSize(1);
+        // Room for one task: the next replay may start while the last one is still returning
+        replayExecutor.setQueueCapacity(1);
+        replayExecutor.setThreadNamePrefix("dlq-replay-");
+        replayExecutor.initialize();
+
+        depthGauge(deadLetterQueue);
+        depthGauge(parkingLotQueue);
+        logger.info("✓ DeadLetterService ready - DLQ: {}, Parking lot: {}, Max replays: {}",
+                deadLetterQueue, parkingLotQueue, maxReplays);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupts a running replay; it stops after the message in hand
+        replayExecutor.shutdown();
+    }
+
+    /**
+     * @return Current depth of the DLQ and parking lot, plus counters since startup
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("deadLetterQueue", deadLetterQueue);
+        stats.put("deadLetterDepth", depth(deadLetterQueue));
+        stats.put("parkingLotQueue", parkingLotQueue);
+        stats.put("parkingLotDepth", depth(parkingLotQueue));
+
+        Map<String, Double> counts = new LinkedHashMap<>();
+        meterRegistry.find("rabbitmq.dlq.replayed").counters().forEach(counter ->
+                counts.put(counter.getId().getTag("reason") + "." + counter.getId().getTag("outcome"),
+                        counter.count()));
+        stats.put("processed", counts);
+        return stats;
+    }
+
+    /**
+     * Start moving messages from the DLQ back to the faculty queue in the background
+     *
+     * @param maxMessages   Stop after this many messages
+     * @param ratePerSecond Upper bound on messages moved per second
+     * @return The started job
+     * @throws ResponseStatusException 409 if another replay is still running
+     */
+    public DeadLetterReplayJob startReplay(int maxMessages, int ratePerSecond) {
+        DeadLetterReplayJob job = new DeadLetterReplayJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setMaxMessages(Math.max(1, Math.min(maxMessages, MAX_MESSAGES_PER_REPLAY)));
+        job.setRatePerSecond(Math.max(1, Math.min(ratePerSecond, MAX_RATE_PER_SECOND)));
+        job.setStartedAt(LocalDateTime.now());
+
+        synchronized (jobs) {
+            if (runningJob != null) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "DLQ replay " + runningJob.getId() + " is still running");
+            }
+            runningJob = job;
+            jobs.put(job.getId(), job);
+        }
+
+        try {
+            replayExecutor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            // Executor shut down
+            finish(job, null, e);
+            throw e;
+        }
+        logger.info("DLQ replay {} started", job.getId());
+        return job;
+    }
+
+    public Optional<DeadLetterReplayJob> getReplayJob(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    private void run(DeadLetterReplayJob job) {
+        try {
+            finish(job, replay(job.getMaxMessages(), job.getRatePerSecond()), null);
+        } catch (RuntimeException e) {
+            logger.error("❌ DLQ replay {} failed: {}", job.getId(), e.getMessage(), e);
+            finish(job, null, e);
+        }
+    }
+
+    private void finish(DeadLetterReplayJob job, DeadLetterReplayResult result, RuntimeException error) {
+        job.setFinishedAt(LocalDateTime.now());
+        if (error != null) {
+            job.setError(error.getMessage());
+            job.setStatus(DeadLetterReplayJob.Status.FAILED);
+        } else {
+            job.setResult(result);
+            job.setStatus(DeadLetterReplayJob.Status.COMPLETED);
+        }
+        synchronized (jobs) {
+            if (runningJob == job) {
+                runningJob = null;
+            }
+        }
+    }
+
+    /**
+     * Move messages from the DLQ back to the faculty queue on the calling thread
+     */
+    private DeadLetterReplayResult replay(int limit, int rate) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+
+        logger.info("Replaying up to {} messages from {} at {} msg/s", limit, deadLetterQueue, rate);
+        DeadLetterReplayResult result = new DeadLetterReplayResult();
+
+        long next = System.nanoTime();
+        while (result.getReplayed() + result.getParked() < limit) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.setStopReason("Interrupted");
+                    break;
+                }
+            }
+            next += intervalNanos;
+
+            String outcome = rabbitTemplate.execute(this::moveOne);
+            if (outcome == null) {
+                result.setStopReason("Dead letter queue is empty");
+                break;
+            }
+            if ("replayed".equals(outcome)) {
+                result.setReplayed(result.getReplayed() + 1);
+            } else if ("parked".equals(outcome)) {
+                result.setParked(result.getParked() + 1);
+            } else {
+                // Broker refused the republish; the message stays on the DLQ
+                result.setFailed(result.getFailed() + 1);
+                result.setStopReason(outcome);
+                break;
+            }
+        }
+        if (result.getStopReason() == null) {
+            result.setStopReason("Reached max messages");
+        }
+
+        result.setRemaining(depth(deadLetterQueue));
+        logger.info("DLQ replay finished - Replayed: {}, Parked: {}, Remaining: {} ({})",
+                result.getReplayed(), result.getParked(), result.getRemaining(), result.getStopReason());
+        return result;
+    }
+
+    /**
+     * Take one message off the DLQ on this channel and republish or park it
+     *
+     * @return "replayed", "parked", a failure description, or null if the DLQ is empty
+     */
+    private String moveOne(Channel channel) throws IOException {
+        GetResponse response = channel.basicGet(deadLetterQueue, false);
+        if (response == null) {
+            return null;
+        }
+        long deliveryTag = response.getEnvelope().getDeliveryTag();
+
+        MessageProperties properties = propertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), "UTF-8");
+        Message message = new Message(response.getBody(), properties);
+
+        String reason = deathReason(properties);
+        int replays = properties.getHeader(REPLAY_COUNT_HEADER) instanceof Number n ? n.intValue() : 0;
+        boolean poison = replays >= maxReplays;
+
+        String failure;
+        if (poison) {
+            // Default exchange routes straight to the parking lot queue
+            failure = publishAndConfirm("", parkingLotQueue, message);
+        } else {
+            properties.setHeader(REPLAY_COUNT_HEADER, replays + 1);
+            failure = publishAndConfirm(exchange, routingKeyOf(properties), message);
+        }
+
+        if (failure != null) {
+            channel.basicNack(deliveryTag, false, true);
+            logger.warn("⚠️ DLQ message {} not moved: {}", properties.getMessageId(), failure);
+            return failure;
+        }
+
+        channel.basicAck(deliveryTag, false);
+        String outcome = poison ? "parked" : "replayed";
+        counter(reason, outcome).increment();
+        if (poison) {
+            logger.warn("⚠️ Poison message {} parked after {} replays (reason: {})",
+                    properties.getMessageId(), replays, reason);
+        } else {
+            logger.debug("DLQ message {} replayed (reason: {}, replay {})",
+                    properties.getMessageId(), reason, replays + 1);
+        }
+        return outcome;
+    }
+
+    private String publishAndConfirm(String targetExchange, String targetRoutingKey, Message message) {
+        CorrelationData correlation = new CorrelationData();
+        try {
+            rabbitTemplate.send(targetExchange, targetRoutingKey, message, correlation);
+            CorrelationData.Confirm confirm = correlation.getFuture().get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+            if (!confirm.isAck()) {
+                return "Nacked by broker: " + confirm.getReason();
+            }
+            if (correlation.getReturned() != null) {
+                return "Unroutable: " + correlation.getReturned().getReplyText();
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted while waiting for confirm";
+        } catch (Exception e) {
+            return "Republish failed: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Reason of the most recent dead-lettering: rejected, expired, maxlen or delivery_limit
+     */
+    private String deathReason(MessageProperties properties) {
+        List<Map<String, ?>> deaths = properties.getXDeathHeader();
+        if (deaths != null && !deaths.isEmpty() && deaths.get(0).get("reason") != null) {
+            return deaths.get(0).get("reason").toString();
+        }
+        Object first = properties.getHeader("x-first-death-reason");
+        return first != null ? first.toString() : "unknown";
+    }
+
+    /**
+     * Original routing key from x-death, falling back to the configured one
+     */
+    private String routingKeyOf(MessageProperties properties) {
+        List<Map<String, ?>> deaths = properties.getXDeathHeader();
+        if (deaths != null && !deaths.isEmpty() && deaths.get(0).get("routing-keys") instanceof List<?> keys
+                && !keys.isEmpty()) {
+            return keys.get(0).toString();
+        }
+        return routingKey;
+    }
+
+    private Counter counter(String reason, String outcome) {
+        return Counter.builder("rabbitmq.dlq.replayed")
+                .description("Dead-lettered messages moved off the DLQ")
+                .tag("queue", queue)
+                .tag("reason", reason)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // Queried from the broker on every scrape; NaN while the broker is unreachable
+    private void depthGauge(String queueName) {
+        Gauge.builder("rabbitmq.dlq.messages", this, service -> {
+                    long depth = service.depth(queueName);
+                    return depth >= 0 ? depth : Double.NaN;
+                })
+                .description("Messages waiting in a dead letter or parking lot queue")
+                .tag("queue", queueName)
+                .register(meterRegistry);
+    }
+
+    private long depth(String queueName) {
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(queueName);
+            return info != null ? info.getMessageCount() : -1;
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not read depth of {}: {}", queueName, e.getMessage());
+            return -1;
+        }
+    }
+}
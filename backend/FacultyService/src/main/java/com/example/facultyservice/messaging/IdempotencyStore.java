@@ -0,0 +1,152 @@
+package com.example.facultyservice.messaging;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * IdempotencyStore - Remembers which RabbitMQ message ids were already processed
+ *
+ * Two tiers:
+ * - Memory: completed ids in an insertion-ordered map bounded by max-size;
+ *   entries expire after ttl
+ * - Database: processed_message table, the source of truth across restarts and
+ *   replicas; rows older than the ttl are purged on a schedule
+ *
+ * Listeners call tryAcquire() before applying a message's side effects,
+ * complete() after they succeeded and release() if they failed. A claim is
+ * leased: if the consumer dies before complete(), tryAcquire() reports the
+ * message IN_PROGRESS until the lease has run out and only then lets another
+ * delivery take the claim over. Redeliveries arriving earlier must be deferred
+ * by the caller (see NotificationEventListener); the listener's in-process
+ * retries are far shorter than the lease.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    @Autowired
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Value("${rabbitmq.idempotency.max-size:50000}")
+    private int maxSize;
+
+    @Value("${rabbitmq.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${rabbitmq.idempotency.lease:2m}")
+    private Duration lease;
+
+    // messageId -> expiry (epoch millis); guarded by synchronized(recent)
+    private Map<String, Long> recent;
+
+    @PostConstruct
+    public void init() {
+        this.recent = new LinkedHashMap<>(1024) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+        logger.info("IdempotencyStore initialized - Max in-memory ids: {}, TTL: {}, Lease: {}",
+                maxSize, ttl, lease);
+    }
+
+    /**
+     * Outcome of tryAcquire
+     */
+    public enum Claim {
+        /** This caller processes the message */
+        ACQUIRED,
+        /** Already processed; skip it */
+        COMPLETED,
+        /** Being processed under a live lease; defer and retry after a delay */
+        IN_PROGRESS
+    }
+
+    /**
+     * Claim a message id for processing
+     *
+     * @param messageId RabbitMQ message id
+     * @return ACQUIRED if this caller should process the message
+     */
+    @Transactional
+    public Claim tryAcquire(String messageId) {
+        long now = System.currentTimeMillis();
+        synchronized (recent) {
+            Long expiresAt = recent.get(messageId);
+            if (expiresAt != null && expiresAt > now) {
+                return Claim.COMPLETED;
+            }
+        }
+
+        // Not in memory (evicted, restarted, or another replica): the unique key decides
+        LocalDateTime claimedAt = LocalDateTime.now();
+        LocalDateTime leaseUntil = claimedAt.plus(lease);
+        if (processedMessageRepository.insertIfAbsent(messageId, claimedAt, leaseUntil) == 1
+                || processedMessageRepository.takeOverExpired(messageId, claimedAt, leaseUntil) == 1) {
+            return Claim.ACQUIRED;
+        }
+
+        Claim claim = processedMessageRepository.findById(messageId)
+                .map(existing -> existing.getLeaseUntil() == null ? Claim.COMPLETED : Claim.IN_PROGRESS)
+                // Deleted by release() in the meantime
+                .orElse(Claim.IN_PROGRESS);
+        if (claim == Claim.COMPLETED) {
+            remember(messageId, now);
+        }
+        logger.debug("Message {} not acquired: {}", messageId, claim);
+        return claim;
+    }
+
+    /**
+     * Mark a claimed message as processed
+     */
+    @Transactional
+    public void complete(String messageId) {
+        processedMessageRepository.markCompleted(messageId, LocalDateTime.now());
+        remember(messageId, System.currentTimeMillis());
+    }
+
+    /**
+     * Give up a claim after failed processing so a retry can process the message again
+     */
+    @Transactional
+    public void release(String messageId) {
+        synchronized (recent) {
+            recent.remove(messageId);
+        }
+        processedMessageRepository.deleteInProgress(messageId);
+    }
+
+    private void remember(String messageId, long now) {
+        synchronized (recent) {
+            recent.put(messageId, now + ttl.toMillis());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rabbitmq.idempotency.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (recent) {
+            recent.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+        int deleted = processedMessageRepository.deleteOlderThan(LocalDateTime.now().minus(ttl));
+        if (deleted > 0) {
+            logger.info("Evicted {} processed message ids older than {}", deleted, ttl);
+        }
+    }
+}
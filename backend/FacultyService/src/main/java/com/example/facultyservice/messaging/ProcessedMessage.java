@@ -0,0 +1,34 @@
+package com.example.facultyservice.messaging;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Id of a RabbitMQ message that has been (or is being) processed
+ *
+ * A claim is in progress while leaseUntil is set and completed once it is
+ * cleared; an in-progress claim whose lease ran out can be taken over.
+ */
+@Entity
+@Table(name = "processed_message", indexes = {
+        @Index(name = "idx_processed_message_processed_at", columnList = "processedAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedMessage {
+
+    @Id
+    @Column(length = 128)
+    private String messageId;
+
+    // Claim time while in progress, completion time afterwards
+    private LocalDateTime processedAt;
+
+    // Null once processing completed
+    private LocalDateTime leaseUntil;
+}
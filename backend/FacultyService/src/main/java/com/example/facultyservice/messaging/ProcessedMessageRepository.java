@@ -0,0 +1,47 @@
+package com.example.facultyservice.messaging;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, String> {
+
+    /**
+     * Claim a message id unless it is already recorded
+     *
+     * @return 1 if inserted, 0 if the id already existed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO processed_message (messageId, processedAt, leaseUntil) "
+            + "VALUES (:messageId, :now, :leaseUntil) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("messageId") String messageId, @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Take over an in-progress claim whose lease has run out
+     *
+     * @return 1 if taken over, 0 if the claim is completed or still leased
+     */
+    @Modifying
+    @Query("UPDATE ProcessedMessage p SET p.processedAt = :now, p.leaseUntil = :leaseUntil "
+            + "WHERE p.messageId = :messageId AND p.leaseUntil < :now")
+    int takeOverExpired(@Param("messageId") String messageId, @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ProcessedMessage p SET p.processedAt = :now, p.leaseUntil = NULL WHERE p.messageId = :messageId")
+    int markCompleted(@Param("messageId") String messageId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedMessage p WHERE p.messageId = :messageId AND p.leaseUntil IS NOT NULL")
+    int deleteInProgress(@Param("messageId") String messageId);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedMessage p WHERE p.processedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
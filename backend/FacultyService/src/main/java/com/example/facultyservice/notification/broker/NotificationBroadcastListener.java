@@ -0,0 +1,33 @@
+package com.example.facultyservice.notification.broker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes broadcast notifications from this replica's queue and hands them
+ * to the local STOMP broker. Active only in amqp broker mode.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.broker.mode", havingValue = NotificationBroadcaster.MODE_AMQP)
+public class NotificationBroadcastListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationBroadcastListener.class);
+
+    @Autowired
+    private NotificationBroadcaster broadcaster;
+
+    @RabbitListener(queues = "#{notificationBroadcastQueue.name}", concurrency = "1")
+    public void onBroadcast(Message message) {
+        Object destination = message.getMessageProperties().getHeader(NotificationBroadcaster.DESTINATION_HEADER);
+        if (!(destination instanceof String topic)) {
+            logger.warn("Dropping broadcast notification without a destination header");
+            return;
+        }
+        broadcaster.deliverLocally(topic, message.getBody());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.facultyservice.notification.broker;
+
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * NotificationBroadcaster - Delivers WebSocket messages to subscribers on every replica
+ *
+ * Modes (notification.broker.mode):
+ * - simple: send straight to this JVM's in-memory STOMP broker (single replica)
+ * - amqp:   publish once to the RabbitMQ topic exchange; every replica consumes
+ *           it from its own queue and sends it to its local subscribers
+ *           (see NotificationBroadcastListener)
+ *
+ * In amqp mode the payload is serialized to JSON once, here, with the
+ * application ObjectMapper (same date format as the STOMP converter), and
+ * replicas forward the bytes as-is.
+ *
+ * Every STOMP send is observed as "notification.push" (span + timer); in amqp
+ * mode the RabbitTemplate/listener observations connect it to the sender's trace.
+ */
+@Component
+public class NotificationBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationBroadcaster.class);
+
+    public static final String MODE_SIMPLE = "simple";
+    public static final String MODE_AMQP = "amqp";
+
+    /** AMQP header carrying the STOMP destination of a broadcast message */
+    public static final String DESTINATION_HEADER = "x-ws-destination";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Value("${notification.broker.mode:simple}")
+    private String mode;
+
+    @Value("${rabbitmq.exchange}")
+    private String exchange;
+
+    @Value("${notification.broker.routing-key:notification.broadcast}")
+    private String routingKey;
+
+    private boolean fanOut;
+
+    @PostConstruct
+    public void init() {
+        if (!MODE_SIMPLE.equals(mode) && !MODE_AMQP.equals(mode)) {
+            throw new IllegalStateException("Unknown notification.broker.mode: " + mode
+                    + " (expected '" + MODE_SIMPLE + "' or '" + MODE_AMQP + "')");
+        }
+        this.fanOut = MODE_AMQP.equals(mode);
+        logger.info("✓ Notification broker mode: {}{}", mode,
+                fanOut ? " (exchange: " + exchange + ", routing key: " + routingKey + ")" : "");
+    }
+
+    /**
+     * Send a payload to a STOMP destination, on whichever replica holds the subscriber
+     *
+     * @param destination STOMP destination, e.g. /topic/notifications/{receiverId}
+     * @param payload     Object serialized as JSON
+     */
+    public void send(String destination, Object payload) {
+        if (!fanOut) {
+            push(destination, () -> messagingTemplate.convertAndSend(destination, payload));
+            return;
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize notification payload", e);
+        }
+
+        Message message = MessageBuilder.withBody(body)
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setHeader(DESTINATION_HEADER, destination)
+                .build();
+        rabbitTemplate.send(exchange, routingKey, message);
+    }
+
+    /**
+     * Deliver an already serialized JSON payload to this replica's subscribers
+     *
+     * Sent as a ready-made message, not through convertAndSend: no converter
+     * accepts byte[] as application/json, so Jackson would re-encode the bytes
+     * as a base64 string.
+     */
+    void deliverLocally(String destination, byte[] json) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.setLeaveMutable(true);
+        push(destination, () -> messagingTemplate.send(destination,
+                org.springframework.messaging.support.MessageBuilder.createMessage(json, headers.getMessageHeaders())));
+    }
+
+    private void push(String destination, Runnable send) {
+        Observation.createNotStarted("notification.push", observationRegistry)
+                .lowCardinalityKeyValue("mode", mode)
+                .highCardinalityKeyValue("destination", destination)
+                .observe(send);
+    }
+}
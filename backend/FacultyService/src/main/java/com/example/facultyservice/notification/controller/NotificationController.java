@@ -1,20 +1,28 @@
 package com.example.facultyservice.notification.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.example.facultyservice.notification.model.BulkNotificationRequest;
 import com.example.facultyservice.notification.model.Notification;
+import com.example.facultyservice.notification.model.NotificationPage;
 import com.example.facultyservice.notification.model.NotificationRequest;
+import com.example.facultyservice.notification.outbox.NotificationOutbox;
 import com.example.facultyservice.notification.service.NotificationService;
 
 import jakarta.annotation.PostConstruct;
@@ -29,16 +37,23 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+
     @PostConstruct
     public void init() {
         logger.info("=================================================");
         logger.info("NotificationController initialized and ready!");
-        logger.info("Endpoints: POST /send, POST /sendToMultiple, GET /{receiverId}");
+        logger.info("Endpoints: POST /send, POST /sendToMultiple, POST /bulk, POST /enqueue, GET /{receiverId}");
+        logger.info("           GET /{receiverId}/inbox, GET /{receiverId}/unseen-count, PUT /{receiverId}/seen, PUT /{receiverId}/read-all, PUT /{id}/read");
         logger.info("=================================================");
     }
 
+    /**
+     * Queue a notification for one receiver; delivered through the outbox
+     */
     @PostMapping("/send")
-    public Notification sendNotification(@RequestBody NotificationRequest notificationRequest,
+    public ResponseEntity<Map<String, Object>> sendNotification(@RequestBody NotificationRequest notificationRequest,
             HttpServletRequest request) {
         logger.info("===============================================");
         logger.info("Controller: POST /api/notifications/send - Sending notification");
@@ -53,20 +68,17 @@ public class NotificationController {
         logger.debug("Message: {}", notificationRequest.getMessage());
         logger.debug("Request from IP: {}", request.getRemoteAddr());
 
-        try {
-            Notification notification = notificationService.sendNotification(notificationRequest);
-            logger.info("Controller: Notification sent successfully - ID: {}", notification.getId());
-            logger.info("===============================================");
-            return notification;
-        } catch (Exception e) {
-            logger.error("Controller: Failed to send notification: {}", e.getMessage(), e);
-            logger.info("===============================================");
-            throw e;
-        }
+        List<String> receiverIds = notificationRequest.getReceiverId() == null
+                ? List.of()
+                : List.of(notificationRequest.getReceiverId());
+        return accept(BulkNotificationRequest.of(notificationRequest, receiverIds));
     }
 
+    /**
+     * Queue one notification for the receivers in ?receiverIds=; delivered through the outbox
+     */
     @PostMapping("/sendToMultiple")
-    public Notification sendToMultiple(@RequestBody NotificationRequest notificationRequest,
+    public ResponseEntity<Map<String, Object>> sendToMultiple(@RequestBody NotificationRequest notificationRequest,
             @RequestParam List<String> receiverIds,
             HttpServletRequest request) {
         logger.info("===============================================");
@@ -82,25 +94,72 @@ public class NotificationController {
         logger.debug("Message: {}", notificationRequest.getMessage());
         logger.debug("Request from IP: {}", request.getRemoteAddr());
 
+        return accept(BulkNotificationRequest.of(notificationRequest, receiverIds));
+    }
+
+    /**
+     * Queue one notification for many receivers; receiver ids are in the body.
+     * Per-receiver outcomes are logged by NotificationEventListener on delivery.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> sendBulk(@RequestBody BulkNotificationRequest bulkRequest,
+            HttpServletRequest request) {
+        int receivers = bulkRequest.getReceiverIds() == null ? 0 : bulkRequest.getReceiverIds().size();
+
+        logger.info("===============================================");
+        logger.info("Controller: POST /api/notifications/bulk - Sending to {} receivers", receivers);
+        logger.info("Sender: {} (Type: {})", bulkRequest.getSenderId(), bulkRequest.getSenderType());
+        logger.debug("Request from IP: {}", request.getRemoteAddr());
+
+        return accept(bulkRequest);
+    }
+
+    /**
+     * Queue a notification for asynchronous delivery through the outbox;
+     * returns 202 as soon as the outbox row is committed
+     */
+    @PostMapping("/enqueue")
+    public ResponseEntity<Map<String, Object>> enqueue(@RequestBody BulkNotificationRequest bulkRequest,
+            HttpServletRequest request) {
+        logger.info("===============================================");
+        logger.info("Controller: POST /api/notifications/enqueue - Sender: {} (Type: {})",
+                bulkRequest.getSenderId(), bulkRequest.getSenderType());
+        logger.debug("Request from IP: {}", request.getRemoteAddr());
+
+        return accept(bulkRequest);
+    }
+
+    /**
+     * Write the outbox row in its own transaction (NotificationOutbox.enqueue)
+     * and answer 202 once it is committed, or 400 for an invalid notification
+     */
+    private ResponseEntity<Map<String, Object>> accept(BulkNotificationRequest bulkRequest) {
+        int receivers = bulkRequest.getReceiverIds() == null ? 0 : bulkRequest.getReceiverIds().size();
         try {
-            Notification notification = notificationService.sendNotificationToMultipleReceivers(
-                    notificationRequest, receiverIds);
-            logger.info("Controller: Batch notification sent to {} receivers", receiverIds.size());
+            Long eventId = notificationOutbox.enqueue(bulkRequest);
+            logger.info("Controller: Notification queued - Event ID: {}, Receivers: {}", eventId, receivers);
             logger.info("===============================================");
-            return notification;
-        } catch (Exception e) {
-            logger.error("Controller: Failed to send batch notifications: {}", e.getMessage(), e);
+            return ResponseEntity.accepted().body(Map.of(
+                    "eventId", eventId,
+                    "receivers", receivers));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Controller: Invalid notification: {}", e.getMessage());
             logger.info("===============================================");
-            throw e;
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
+    /**
+     * Whole notification history of a receiver, newest first
+     * Kept for existing clients; use /{receiverId}/inbox to page through it
+     */
     @GetMapping("/{receiverId}")
     public List<Notification> getNotifications(@PathVariable String receiverId,
             HttpServletRequest request) {
         logger.info("===============================================");
         logger.info("Controller: GET /api/notifications/{} - Fetching notifications", receiverId);
         logger.debug("Request from IP: {}", request.getRemoteAddr());
+        requireReceiver(request, receiverId);
 
         try {
             List<Notification> notifications = notificationService.getNotificationsByReceiverId(receiverId);
@@ -115,4 +174,91 @@ public class NotificationController {
             throw e;
         }
     }
+
+    /**
+     * Receiver inbox, newest first; pass nextCursor back as ?cursor= for the next page
+     */
+    @GetMapping("/{receiverId}/inbox")
+    public NotificationPage getInbox(@PathVariable String receiverId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            HttpServletRequest request) {
+        logger.info("===============================================");
+        logger.info("Controller: GET /api/notifications/{}/inbox - Fetching inbox page", receiverId);
+        logger.debug("Request from IP: {}", request.getRemoteAddr());
+        requireReceiver(request, receiverId);
+
+        try {
+            NotificationPage page = notificationService.getInbox(receiverId, cursor, limit);
+            logger.info("Controller: Fetched {} notifications for receiver: {}",
+                    page.getItems().size(), receiverId);
+            logger.info("===============================================");
+            return page;
+        } catch (Exception e) {
+            logger.error("Controller: Failed to fetch inbox for {}: {}",
+                    receiverId, e.getMessage(), e);
+            logger.info("===============================================");
+            throw e;
+        }
+    }
+
+    @GetMapping("/{receiverId}/unseen-count")
+    public Map<String, Object> getUnseenCount(@PathVariable String receiverId, HttpServletRequest request) {
+        logger.debug("Controller: GET /api/notifications/{}/unseen-count", receiverId);
+        requireReceiver(request, receiverId);
+        return Map.of("receiverId", receiverId, "unseen", notificationService.countUnseen(receiverId));
+    }
+
+    /**
+     * Mark several notifications as seen; body: {"ids": [1, 2, 3]}
+     */
+    @PutMapping("/{receiverId}/seen")
+    public Map<String, Object> markSeen(@PathVariable String receiverId,
+            @RequestBody Map<String, List<Long>> body,
+            HttpServletRequest request) {
+        logger.info("Controller: PUT /api/notifications/{}/seen", receiverId);
+        requireReceiver(request, receiverId);
+        int updated = notificationService.markSeen(receiverId, body.get("ids"));
+        return Map.of("updated", updated);
+    }
+
+    @PutMapping("/{receiverId}/read-all")
+    public Map<String, Object> markAllSeen(@PathVariable String receiverId, HttpServletRequest request) {
+        logger.info("Controller: PUT /api/notifications/{}/read-all", receiverId);
+        requireReceiver(request, receiverId);
+        return Map.of("updated", notificationService.markAllSeen(receiverId));
+    }
+
+    /**
+     * Mark one of the caller's notifications as read; another receiver's id updates nothing
+     */
+    @PutMapping("/{id}/read")
+    public Map<String, Object> markRead(@PathVariable Long id, HttpServletRequest request) {
+        logger.info("Controller: PUT /api/notifications/{}/read", id);
+        return Map.of("updated", notificationService.markSeen(id, callerId(request)));
+    }
+
+    /**
+     * Inbox endpoints are only for the receiver themselves
+     *
+     * @throws ResponseStatusException 403 if receiverId is not the caller's verified user id
+     */
+    private void requireReceiver(HttpServletRequest request, String receiverId) {
+        String callerId = callerId(request);
+        if (!callerId.equals(receiverId)) {
+            logger.warn("Controller: User {} denied access to notifications of {}", callerId, receiverId);
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not the receiver of these notifications");
+        }
+    }
+
+    /**
+     * User id verified by JwtAuthenticationFilter (gateway-signed X-User-Id or JWT claim)
+     */
+    private String callerId(HttpServletRequest request) {
+        Object userId = request.getAttribute("userId");
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "No verified user");
+        }
+        return userId.toString();
+    }
 }
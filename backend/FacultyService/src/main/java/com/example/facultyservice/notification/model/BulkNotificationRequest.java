@@ -0,0 +1,34 @@
+package com.example.facultyservice.notification.model;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * One notification addressed to many receivers; receivers travel in the body
+ */
+@Data
+public class BulkNotificationRequest {
+    private String senderId;
+    private SenderType senderType;
+    private ReceiverType receiverType;
+    private NotificationType notificationType;
+    private String message;
+    private String title;
+    private List<String> receiverIds;
+
+    /**
+     * The content of a single-receiver request, addressed to receiverIds
+     */
+    public static BulkNotificationRequest of(NotificationRequest request, List<String> receiverIds) {
+        BulkNotificationRequest bulkRequest = new BulkNotificationRequest();
+        bulkRequest.setSenderId(request.getSenderId());
+        bulkRequest.setSenderType(request.getSenderType());
+        bulkRequest.setReceiverType(request.getReceiverType());
+        bulkRequest.setNotificationType(request.getNotificationType());
+        bulkRequest.setMessage(request.getMessage());
+        bulkRequest.setTitle(request.getTitle());
+        bulkRequest.setReceiverIds(receiverIds);
+        return bulkRequest;
+    }
+}
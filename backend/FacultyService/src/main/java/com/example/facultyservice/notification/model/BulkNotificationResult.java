@@ -0,0 +1,39 @@
+package com.example.facultyservice.notification.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+public class BulkNotificationResult {
+
+    public enum DeliveryStatus {
+        /** Saved and pushed over WebSocket */
+        DELIVERED,
+        /** Saved; the push had not finished when the response was written */
+        PUSH_PENDING,
+        /** Saved; the push failed (the receiver still sees it in their inbox) */
+        PUSH_FAILED,
+        /** Not saved */
+        FAILED
+    }
+
+    private int total;
+    private int saved;
+    private int pushed;
+    private int failed;
+    private List<ReceiverResult> results = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReceiverResult {
+        private String receiverId;
+        private Long notificationId;
+        private DeliveryStatus status;
+        private String error;
+    }
+}
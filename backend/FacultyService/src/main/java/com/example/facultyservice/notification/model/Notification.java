@@ -5,6 +5,12 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // Inbox keyset pagination: WHERE receiverId = ? ORDER BY timestamp DESC, id DESC
+        @Index(name = "idx_notification_receiver_ts_id", columnList = "receiverId, timestamp, id"),
+        // Unseen count and mark-all-seen
+        @Index(name = "idx_notification_receiver_seen", columnList = "receiverId, seen")
+})
 @Data
 public class Notification {
     
@@ -0,0 +1,20 @@
+package com.example.facultyservice.notification.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a receiver's inbox, newest first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPage {
+    private List<NotificationView> items;
+    // Pass back as ?cursor= to get the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,25 @@
+package com.example.facultyservice.notification.model;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Inbox row returned to clients; selected directly by JPQL so no managed
+ * entities are created for reads
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationView {
+    private Long id;
+    private String senderId;
+    private SenderType senderType;
+    private NotificationType notificationType;
+    private String title;
+    private String message;
+    private Boolean seen;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,142 @@
+package com.example.facultyservice.notification.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import com.example.facultyservice.messaging.IdempotencyStore;
+import com.example.facultyservice.messaging.IdempotencyStore.Claim;
+import com.example.facultyservice.notification.model.BulkNotificationRequest;
+import com.example.facultyservice.notification.model.BulkNotificationResult;
+import com.example.facultyservice.notification.service.NotificationService;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Consumes notification events published by the OutboxPublisher and delivers
+ * them: inbox rows are written and receivers are pushed over WebSocket.
+ *
+ * Runs on batchRabbitListenerContainerFactory. Each message id is claimed in
+ * the IdempotencyStore first and marked completed after delivery, so
+ * redeliveries and batch retries skip the events that were already delivered.
+ * An event claimed by another consumer is not retried in-process (the batch
+ * retries are over long before the claim lease); it is parked on the delay
+ * queue (rabbitmq.queue + ".retry") and comes back once the delay expires.
+ * If the consumer holding the claim died, a later round finds the lease run
+ * out, takes the claim over and delivers the event. Every delivered event
+ * gets its own span, continuing the trace carried in its headers.
+ */
+@Component
+public class NotificationEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationEventListener.class);
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private OutboxTracing outboxTracing;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Value("${rabbitmq.queue}")
+    private String queue;
+
+    @RabbitListener(queues = "${rabbitmq.queue}", containerFactory = "batchRabbitListenerContainerFactory")
+    public void onNotificationEvents(List<Message<BulkNotificationRequest>> messages) {
+        logger.debug("Notification batch received - {} events", messages.size());
+
+        int delivered = 0;
+        int duplicates = 0;
+        int deferred = 0;
+        int failed = 0;
+        RuntimeException firstFailure = null;
+
+        for (Message<BulkNotificationRequest> message : messages) {
+            String messageId = message.getHeaders().get(AmqpHeaders.MESSAGE_ID, String.class);
+            Claim claim = messageId != null ? idempotencyStore.tryAcquire(messageId) : Claim.ACQUIRED;
+            if (claim == Claim.COMPLETED) {
+                duplicates++;
+                continue;
+            }
+            if (claim == Claim.IN_PROGRESS) {
+                // Another consumer holds the claim; check back after the delay rather than drop the event
+                try {
+                    defer(message, messageId);
+                    deferred++;
+                } catch (RuntimeException e) {
+                    failed++;
+                    logger.error("❌ Notification event {} could not be deferred: {}", messageId, e.getMessage(), e);
+                    if (firstFailure == null) {
+                        firstFailure = e;
+                    }
+                }
+                continue;
+            }
+
+            Span span = outboxTracing.startDeliverySpan(message.getHeaders(), messageId);
+            try (Tracer.SpanInScope scope = outboxTracing.withSpan(span)) {
+                BulkNotificationResult result = notificationService.sendBulkNotification(message.getPayload());
+                if (messageId != null) {
+                    idempotencyStore.complete(messageId);
+                }
+                delivered++;
+                logger.debug("Notification event {} delivered - Saved: {}, Pushed: {}",
+                        messageId, result.getSaved(), result.getPushed());
+            } catch (RuntimeException e) {
+                span.error(e);
+                failed++;
+                if (messageId != null) {
+                    idempotencyStore.release(messageId);
+                }
+                logger.error("❌ Notification event {} failed: {}", messageId, e.getMessage(), e);
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            } finally {
+                span.end();
+            }
+        }
+
+        logger.info("Notification batch processed - Delivered: {}, Duplicates: {}, Deferred: {}, Failed: {}",
+                delivered, duplicates, deferred, failed);
+
+        // Fail the batch so it is retried; delivered events are skipped next time
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    /**
+     * Park an in-progress event on the delay queue; the queue TTL dead-letters
+     * it back to the exchange, keeping its message id
+     */
+    private void defer(Message<BulkNotificationRequest> message, String messageId) {
+        Span span = outboxTracing.startDeliverySpan(message.getHeaders(), messageId);
+        try (Tracer.SpanInScope scope = outboxTracing.withSpan(span)) {
+            rabbitTemplate.convertAndSend("", queue + ".retry", message.getPayload(), deferredMessage -> {
+                deferredMessage.getMessageProperties().setMessageId(messageId);
+                return deferredMessage;
+            });
+            logger.warn("⚠️ Notification event {} is being delivered elsewhere, deferred", messageId);
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.facultyservice.notification.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.facultyservice.notification.model.BulkNotificationRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Entry point for asynchronous notifications
+ *
+ * enqueue() only inserts an outbox row. Called from a @Transactional business
+ * method it joins that transaction, so the notification exists if and only if
+ * the change commits. Delivery (persisting the inbox rows and pushing over
+ * WebSocket) happens later in NotificationEventListener.
+ */
+@Service
+public class NotificationOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutbox.class);
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OutboxTracing outboxTracing;
+
+    /**
+     * Queue a notification for asynchronous delivery
+     *
+     * @param request Notification content and receivers
+     * @return Outbox event id
+     */
+    @Transactional
+    public Long enqueue(BulkNotificationRequest request) {
+        if (request.getReceiverIds() == null || request.getReceiverIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one receiver is required");
+        }
+
+        NotificationOutboxEvent event = new NotificationOutboxEvent();
+        try {
+            event.setPayload(objectMapper.writeValueAsString(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize notification", e);
+        }
+        event.setTraceContext(outboxTracing.capture());
+
+        NotificationOutboxEvent saved = outboxRepository.save(event);
+        logger.info("Notification queued in outbox - Event ID: {}, Receivers: {}",
+                saved.getId(), request.getReceiverIds().size());
+        return saved.getId();
+    }
+}
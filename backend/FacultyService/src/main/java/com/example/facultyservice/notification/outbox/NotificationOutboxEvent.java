@@ -0,0 +1,49 @@
+package com.example.facultyservice.notification.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Notification waiting to be published to RabbitMQ
+ *
+ * Written in the same transaction as the change that caused it; the
+ * OutboxPublisher moves it to the broker afterwards.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status_id", columnList = "status, id")
+})
+@Data
+public class NotificationOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    // BulkNotificationRequest as JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // Trace headers (traceparent, baggage) of the enqueuing request as JSON; see OutboxTracing
+    @Column(length = 1000)
+    private String traceContext;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    private int attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // Not picked up by the publisher before this time; set after a failed attempt
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime publishedAt;
+}
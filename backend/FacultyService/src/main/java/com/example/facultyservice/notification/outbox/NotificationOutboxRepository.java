@@ -0,0 +1,27 @@
+package com.example.facultyservice.notification.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEvent, Long> {
+
+    /**
+     * Lock the oldest pending events that are not backing off; rows locked by
+     * another replica's poller are skipped
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' "
+            + "AND (nextAttemptAt IS NULL OR nextAttemptAt <= :now) "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxEvent> lockPending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEvent e WHERE e.status = :status AND e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff);
+}
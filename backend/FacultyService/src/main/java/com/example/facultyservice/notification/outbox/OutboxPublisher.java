@@ -0,0 +1,274 @@
+package com.example.facultyservice.notification.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * OutboxPublisher - Moves pending outbox events to RabbitMQ
+ *
+ * Each poll locks a batch of PENDING rows (FOR UPDATE SKIP LOCKED, so several
+ * replicas can poll safely), publishes all of them, then waits for the
+ * publisher confirms. Acked messages are marked PUBLISHED in the same
+ * transaction.
+ *
+ * Failures are handled by cause:
+ * - Broker unreachable, nacked (e.g. faculty-queue full with reject-publish)
+ *   or no confirm in time: the broker is the problem, not the event. The rows
+ *   stay PENDING without using up an attempt and the whole publisher pauses,
+ *   doubling the pause while the broker keeps failing.
+ * - Returned as unroutable: the event counts an attempt and is not picked up
+ *   again before nextAttemptAt (exponential backoff); after max-attempts it
+ *   is marked FAILED.
+ *
+ * Sends go through outboxRabbitTemplate, which has no retry policy, so the row
+ * locks are never held through send retries.
+ *
+ * Delivery is at-least-once: a crash between publish and commit republishes
+ * the batch, and the message id ("notification-{eventId}") lets consumers
+ * recognise duplicates.
+ *
+ * Each send runs in a span that continues the trace of the request that
+ * enqueued the event (see OutboxTracing).
+ */
+@Component
+public class OutboxPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxPublisher.class);
+
+    public static final String MESSAGE_ID_PREFIX = "notification-";
+    public static final String EVENT_TYPE_HEADER = "eventType";
+    public static final String EVENT_TYPE = "NOTIFICATION";
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    @Qualifier("outboxRabbitTemplate")
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxTracing outboxTracing;
+
+    @Value("${rabbitmq.exchange}")
+    private String exchange;
+
+    @Value("${rabbitmq.routing-key}")
+    private String routingKey;
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${notification.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${notification.outbox.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${notification.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    private TransactionTemplate transactionTemplate;
+
+    // Broker-wide failures in a row, and when polling resumes after the last one
+    private int brokerFailures = 0;
+    private LocalDateTime pausedUntil;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        logger.info("✓ Outbox publisher ready - Batch size: {}, Confirm timeout: {} ms, Max attempts: {}, Backoff: {}-{} ms",
+                batchSize, confirmTimeoutMs, maxAttempts, backoffInitialMs, backoffMaxMs);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:500}")
+    public void publishPending() {
+        if (pausedUntil != null) {
+            if (LocalDateTime.now().isBefore(pausedUntil)) {
+                return;
+            }
+            pausedUntil = null;
+        }
+        try {
+            // Keep draining while batches come back full
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == batchSize && pausedUntil == null);
+        } catch (Exception e) {
+            logger.error("❌ Outbox publish failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(
+                status -> outboxRepository.deletePublishedBefore(OutboxStatus.PUBLISHED, cutoff));
+        if (deleted != null && deleted > 0) {
+            logger.info("Deleted {} published outbox events older than {}", deleted, cutoff);
+        }
+    }
+
+    /**
+     * Publish one locked batch and record the confirm outcome of each event
+     *
+     * @return Number of events confirmed by the broker
+     */
+    private int publishBatch() {
+        List<NotificationOutboxEvent> batch = outboxRepository.lockPending(LocalDateTime.now(), batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CorrelationData> confirms = new ArrayList<>(batch.size());
+        for (NotificationOutboxEvent event : batch) {
+            CorrelationData correlation = new CorrelationData(String.valueOf(event.getId()));
+            Span span = outboxTracing.startPublishSpan(event);
+            try (Tracer.SpanInScope scope = outboxTracing.withSpan(span)) {
+                rabbitTemplate.send(exchange, routingKey, toMessage(event), correlation);
+                confirms.add(correlation);
+            } catch (AmqpException e) {
+                span.error(e);
+                // Broker unreachable: leave the rest of the batch for the next poll
+                logger.warn("⚠️ Outbox publish interrupted at event {}: {}", event.getId(), e.getMessage());
+                event.setLastError(truncate(e.getMessage()));
+                pause(e.getMessage());
+                break;
+            } finally {
+                span.end();
+            }
+        }
+
+        int published = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < confirms.size(); i++) {
+            NotificationOutboxEvent event = batch.get(i);
+            CorrelationData correlation = confirms.get(i);
+            String failure = awaitConfirm(correlation);
+            if (failure == null) {
+                event.setStatus(OutboxStatus.PUBLISHED);
+                event.setPublishedAt(now);
+                event.setNextAttemptAt(null);
+                event.setLastError(null);
+                published++;
+            } else if (correlation.getReturned() != null) {
+                recordFailure(event, failure);
+            } else {
+                // Nack or missing confirm: stays PENDING as is
+                event.setLastError(truncate(failure));
+                pause(failure);
+            }
+        }
+
+        if (published > 0 && pausedUntil == null) {
+            brokerFailures = 0;
+        }
+        logger.debug("Outbox batch: {} locked, {} published", batch.size(), published);
+        return published;
+    }
+
+    /**
+     * @return null when the broker acked the message, otherwise the reason it did not
+     */
+    private String awaitConfirm(CorrelationData correlation) {
+        try {
+            CorrelationData.Confirm confirm = correlation.getFuture().get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+            if (!confirm.isAck()) {
+                return "Nacked by broker: " + confirm.getReason();
+            }
+            if (correlation.getReturned() != null) {
+                return "Unroutable: " + correlation.getReturned().getReplyText();
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted while waiting for confirm";
+        } catch (Exception e) {
+            return "No confirm within " + confirmTimeoutMs + " ms";
+        }
+    }
+
+    /**
+     * Failure of the event itself: counts an attempt and backs the event off
+     */
+    private void recordFailure(NotificationOutboxEvent event, String reason) {
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(truncate(reason));
+        if (event.getAttempts() >= maxAttempts) {
+            event.setStatus(OutboxStatus.FAILED);
+            event.setNextAttemptAt(null);
+            logger.error("❌ Outbox event {} failed after {} attempts: {}", event.getId(), event.getAttempts(), reason);
+        } else {
+            event.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs(event.getAttempts()) * 1_000_000));
+            logger.warn("⚠️ Outbox event {} not published (attempt {}): {}", event.getId(), event.getAttempts(), reason);
+        }
+    }
+
+    /**
+     * Failure of the broker: no attempt is counted, the whole publisher waits.
+     * Only the first broker failure of a poll lengthens the pause.
+     */
+    private void pause(String reason) {
+        if (pausedUntil != null) {
+            return;
+        }
+        brokerFailures++;
+        long delayMs = backoffMs(brokerFailures);
+        pausedUntil = LocalDateTime.now().plusNanos(delayMs * 1_000_000);
+        logger.warn("⚠️ Outbox publishing paused for {} ms after {} broker failure(s): {}",
+                delayMs, brokerFailures, reason);
+    }
+
+    private long backoffMs(int failures) {
+        int exponent = Math.min(Math.max(failures - 1, 0), 30);
+        return Math.min(backoffInitialMs << exponent, backoffMaxMs);
+    }
+
+    private String truncate(String reason) {
+        if (reason == null) {
+            return null;
+        }
+        return reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+
+    private Message toMessage(NotificationOutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(MESSAGE_ID_PREFIX + event.getId())
+                .setHeader(EVENT_TYPE_HEADER, EVENT_TYPE)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.facultyservice.notification.outbox;
+
+public enum OutboxStatus {
+    PENDING, PUBLISHED, FAILED
+}
@@ -0,0 +1,104 @@
+package com.example.facultyservice.notification.outbox;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+
+/**
+ * Carries the trace of the request that queued a notification through the outbox
+ *
+ * The publisher runs later on a scheduler thread, so the caller's trace
+ * headers (traceparent, baggage) are stored on the outbox row at enqueue time
+ * and the publish span is started as their child. RabbitTemplate observation
+ * then writes that span into the AMQP headers, and the batch listener starts
+ * one delivery span per message from them.
+ */
+@Component
+class OutboxTracing {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxTracing.class);
+
+    private static final TypeReference<Map<String, String>> HEADERS_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private Propagator propagator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * @return Trace headers of the current span as JSON, or null outside a trace
+     */
+    String capture() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        Map<String, String> headers = new HashMap<>();
+        propagator.inject(span.context(), headers, Map::put);
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            logger.warn("⚠️ Cannot serialize trace context: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Span around publishing one outbox event, in the trace that enqueued it
+     */
+    Span startPublishSpan(NotificationOutboxEvent event) {
+        Map<String, String> headers = restore(event.getTraceContext());
+        Span.Builder builder = headers.isEmpty() ? tracer.spanBuilder() : propagator.extract(headers, Map::get);
+        return builder.name("notification.outbox.publish")
+                .tag("outbox.event.id", String.valueOf(event.getId()))
+                .start();
+    }
+
+    /**
+     * Span around delivering one message of a consumer batch
+     */
+    Span startDeliverySpan(MessageHeaders headers, String messageId) {
+        Span.Builder builder = propagator.extract(headers, (carrier, key) -> {
+            Object value = carrier.get(key);
+            return value != null ? value.toString() : null;
+        });
+        return builder.name("notification.deliver")
+                .kind(Span.Kind.CONSUMER)
+                .tag("messaging.message.id", String.valueOf(messageId))
+                .start();
+    }
+
+    Tracer.SpanInScope withSpan(Span span) {
+        return tracer.withSpan(span);
+    }
+
+    private Map<String, String> restore(String traceContext) {
+        if (traceContext == null || traceContext.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(traceContext, HEADERS_TYPE);
+        } catch (JsonProcessingException e) {
+            logger.warn("⚠️ Ignoring unreadable trace context: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.facultyservice.notification.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.example.facultyservice.notification.model.Notification;
+
+/**
+ * Batched JDBC inserts for notifications
+ *
+ * Notification ids are IDENTITY columns, which keeps Hibernate from batching
+ * inserts; this writes a whole fan-out with JDBC batches instead and copies
+ * the generated ids back onto the entities.
+ *
+ * Column names match the unquoted names Hibernate creates with
+ * PhysicalNamingStrategyStandardImpl.
+ */
+@Repository
+public class NotificationBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationBatchWriter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO Notification "
+            + "(senderId, senderType, receiverId, receiverType, notificationType, message, title, seen, timestamp) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert notifications in JDBC batches and set their generated ids
+     *
+     * @param notifications New notifications (ids are ignored and overwritten)
+     */
+    public void insertAll(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += BATCH_SIZE) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + BATCH_SIZE, notifications.size()));
+            insertChunk(chunk);
+        }
+    }
+
+    private void insertChunk(List<Notification> chunk) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification n = chunk.get(i);
+                        ps.setString(1, n.getSenderId());
+                        ps.setString(2, n.getSenderType() == null ? null : n.getSenderType().name());
+                        ps.setString(3, n.getReceiverId());
+                        ps.setString(4, n.getReceiverType() == null ? null : n.getReceiverType().name());
+                        ps.setString(5, n.getNotificationType() == null ? null : n.getNotificationType().name());
+                        ps.setString(6, n.getMessage());
+                        ps.setString(7, n.getTitle());
+                        ps.setBoolean(8, Boolean.TRUE.equals(n.getSeen()));
+                        ps.setTimestamp(9, Timestamp.valueOf(n.getTimestamp()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < chunk.size() && i < keys.size(); i++) {
+            Object id = keys.get(i).get("id");
+            if (id instanceof Number number) {
+                chunk.get(i).setId(number.longValue());
+            }
+        }
+        logger.debug("Inserted batch of {} notifications", chunk.size());
+    }
+}
@@ -1,13 +1,55 @@
 package com.example.facultyservice.notification.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.facultyservice.notification.model.Notification;
+import com.example.facultyservice.notification.model.NotificationView;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByReceiverIdOrderByTimestampDesc(String receiverId);
+
+    // Inbox pages walk idx_notification_receiver_ts_id: (receiverId, timestamp, id)
+
+    @Query("SELECT new com.example.facultyservice.notification.model.NotificationView("
+            + "n.id, n.senderId, n.senderType, n.notificationType, n.title, n.message, n.seen, n.timestamp) "
+            + "FROM Notification n WHERE n.receiverId = :receiverId "
+            + "ORDER BY n.timestamp DESC, n.id DESC")
+    List<NotificationView> findInboxFirstPage(@Param("receiverId") String receiverId, Pageable pageable);
+
+    @Query("SELECT new com.example.facultyservice.notification.model.NotificationView("
+            + "n.id, n.senderId, n.senderType, n.notificationType, n.title, n.message, n.seen, n.timestamp) "
+            + "FROM Notification n WHERE n.receiverId = :receiverId "
+            + "AND (n.timestamp < :timestamp OR (n.timestamp = :timestamp AND n.id < :id)) "
+            + "ORDER BY n.timestamp DESC, n.id DESC")
+    List<NotificationView> findInboxPageAfter(@Param("receiverId") String receiverId,
+            @Param("timestamp") LocalDateTime timestamp,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.receiverId = :receiverId AND n.seen = false")
+    long countUnseen(@Param("receiverId") String receiverId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.seen = true "
+            + "WHERE n.receiverId = :receiverId AND n.seen = false AND n.id IN :ids")
+    int markSeen(@Param("receiverId") String receiverId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.seen = true WHERE n.receiverId = :receiverId AND n.seen = false")
+    int markAllSeen(@Param("receiverId") String receiverId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.seen = true "
+            + "WHERE n.id = :id AND n.receiverId = :receiverId AND n.seen = false")
+    int markSeenById(@Param("id") Long id, @Param("receiverId") String receiverId);
 }
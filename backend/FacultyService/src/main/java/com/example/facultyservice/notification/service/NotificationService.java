@@ -1,18 +1,39 @@
 package com.example.facultyservice.notification.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.facultyservice.notification.broker.NotificationBroadcaster;
+import com.example.facultyservice.notification.repository.NotificationBatchWriter;
 import com.example.facultyservice.notification.repository.NotificationRepository;
+import com.example.facultyservice.notification.model.BulkNotificationRequest;
+import com.example.facultyservice.notification.model.BulkNotificationResult;
+import com.example.facultyservice.notification.model.BulkNotificationResult.DeliveryStatus;
+import com.example.facultyservice.notification.model.BulkNotificationResult.ReceiverResult;
 import com.example.facultyservice.notification.model.Notification;
+import com.example.facultyservice.notification.model.NotificationPage;
 import com.example.facultyservice.notification.model.NotificationRequest;
+import com.example.facultyservice.notification.model.NotificationView;
 
 import jakarta.annotation.PostConstruct;
 
@@ -21,17 +42,29 @@ public class NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private NotificationRepository notificationDao;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationBroadcaster broadcaster;
+
+    @Autowired
+    private NotificationBatchWriter notificationBatchWriter;
+
+    @Autowired
+    @Qualifier("notificationPushExecutor")
+    private ThreadPoolTaskExecutor notificationPushExecutor;
+
+    @Value("${notification.push.await-timeout:5s}")
+    private Duration pushAwaitTimeout;
 
     @PostConstruct
     public void init() {
         logger.info("=================================================");
         logger.info("NotificationService initialized and ready!");
-        logger.info("WebSocket messaging template configured");
+        logger.info("WebSocket notification broadcaster configured");
         logger.info("=================================================");
     }
 
@@ -67,7 +100,7 @@ public class NotificationService {
 
             String topic = "/topic/notifications/" + notificationRequest.getReceiverId();
             logger.info("Sending WebSocket message to topic: {}", topic);
-            messagingTemplate.convertAndSend(topic, savedNotification);
+            broadcaster.send(topic, savedNotification);
             logger.info("WebSocket message sent successfully to receiver: {}",
                     notificationRequest.getReceiverId());
 
@@ -83,94 +116,256 @@ public class NotificationService {
         }
     }
 
-    public Notification sendNotificationToMultipleReceivers(NotificationRequest notificationRequest,
+    /**
+     * Send one notification to several receivers (receiver ids as a list).
+     * Kept for existing callers; delegates to {@link #sendBulkNotification}.
+     *
+     * @return Per-receiver results of the rows actually written
+     */
+    public BulkNotificationResult sendNotificationToMultipleReceivers(NotificationRequest notificationRequest,
             List<String> receiverIds) {
+        return sendBulkNotification(BulkNotificationRequest.of(notificationRequest, receiverIds));
+    }
+
+    /**
+     * Fan one notification out to many receivers
+     *
+     * 1. One row per distinct receiver is written with JDBC batch inserts
+     * 2. WebSocket pushes run on notificationPushExecutor (bounded concurrency)
+     * 3. Waits up to notification.push.await-timeout for the pushes, then
+     *    reports each receiver's outcome; slower pushes still complete
+     *
+     * @param bulkRequest Notification content and receiver ids
+     * @return Per-receiver results
+     */
+    public BulkNotificationResult sendBulkNotification(BulkNotificationRequest bulkRequest) {
+        List<String> receiverIds = bulkRequest.getReceiverIds() == null
+                ? List.of()
+                : bulkRequest.getReceiverIds();
+
         logger.info("===============================================");
-        logger.info("NotificationService: Sending notification to MULTIPLE receivers");
-        logger.info("Sender: {} (Type: {}), Number of Receivers: {}",
-                notificationRequest.getSenderId(),
-                notificationRequest.getSenderType(),
-                receiverIds.size());
-        logger.debug("Receiver IDs: {}", receiverIds);
-        logger.debug("Notification Type: {}, Title: {}",
-                notificationRequest.getNotificationType(),
-                notificationRequest.getTitle());
-        logger.debug("Message: {}", notificationRequest.getMessage());
+        logger.info("NotificationService: Bulk notification to {} receivers", receiverIds.size());
+        logger.info("Sender: {} (Type: {}), Notification Type: {}",
+                bulkRequest.getSenderId(), bulkRequest.getSenderType(), bulkRequest.getNotificationType());
+        logger.debug("Title: {}, Message: {}", bulkRequest.getTitle(), bulkRequest.getMessage());
+
+        BulkNotificationResult result = new BulkNotificationResult();
+        LocalDateTime now = LocalDateTime.now();
+
+        // One fresh entity per distinct receiver
+        Set<String> distinctReceivers = new LinkedHashSet<>();
+        List<Notification> notifications = new ArrayList<>(receiverIds.size());
+        for (String receiverId : receiverIds) {
+            if (receiverId == null || receiverId.isBlank()) {
+                result.getResults().add(new ReceiverResult(receiverId, null, DeliveryStatus.FAILED,
+                        "Blank receiver id"));
+            } else if (distinctReceivers.add(receiverId)) {
+                notifications.add(newNotification(bulkRequest, receiverId, now));
+            }
+        }
 
-        try {
-            Notification notification = new Notification();
-            notification.setSenderId(notificationRequest.getSenderId());
-            notification.setSenderType(notificationRequest.getSenderType());
-            notification.setReceiverType(notificationRequest.getReceiverType());
-            notification.setNotificationType(notificationRequest.getNotificationType());
-            notification.setMessage(notificationRequest.getMessage());
-            notification.setTitle(notificationRequest.getTitle());
-            notification.setSeen(false);
-            notification.setTimestamp(LocalDateTime.now());
+        List<Notification> saved = save(notifications, result);
 
-            int successCount = 0;
-            int failCount = 0;
+        // Push in parallel; the executor bounds concurrency
+        List<CompletableFuture<Void>> pushes = new ArrayList<>(saved.size());
+        for (Notification notification : saved) {
+            String topic = "/topic/notifications/" + notification.getReceiverId();
+            pushes.add(CompletableFuture.runAsync(
+                    () -> broadcaster.send(topic, notification), notificationPushExecutor));
+        }
+        awaitPushes(pushes);
+
+        for (int i = 0; i < saved.size(); i++) {
+            Notification notification = saved.get(i);
+            CompletableFuture<Void> push = pushes.get(i);
+
+            DeliveryStatus status;
+            String error = null;
+            if (!push.isDone()) {
+                status = DeliveryStatus.PUSH_PENDING;
+            } else if (push.isCompletedExceptionally()) {
+                status = DeliveryStatus.PUSH_FAILED;
+                error = pushError(push);
+                logger.warn("WebSocket push failed for receiver {}: {}", notification.getReceiverId(), error);
+            } else {
+                status = DeliveryStatus.DELIVERED;
+                result.setPushed(result.getPushed() + 1);
+            }
+            result.getResults().add(new ReceiverResult(
+                    notification.getReceiverId(), notification.getId(), status, error));
+        }
 
-            logger.info("Starting batch notification send to {} receivers...", receiverIds.size());
+        result.setTotal(result.getResults().size());
+        result.setSaved(saved.size());
+        result.setFailed(result.getTotal() - saved.size());
 
-            for (String receiverId : receiverIds) {
-                try {
-                    notification.setReceiverId(receiverId);
+        logger.info("Bulk notification completed - Saved: {}, Pushed: {}, Failed: {}, Total: {}",
+                result.getSaved(), result.getPushed(), result.getFailed(), result.getTotal());
+        logger.info("===============================================");
+        return result;
+    }
 
-                    logger.debug("Saving notification for receiver: {}", receiverId);
-                    Notification savedNotification = notificationDao.save(notification);
-                    logger.debug("Notification saved for receiver {} - ID: {}",
-                            receiverId, savedNotification.getId());
+    /**
+     * Batch insert; if a batch fails, the rows it did not write are retried
+     * one by one so a single bad row does not fail every receiver
+     */
+    private List<Notification> save(List<Notification> notifications, BulkNotificationResult result) {
+        if (notifications.isEmpty()) {
+            return notifications;
+        }
 
-                    String topic = "/topic/notifications/" + receiverId;
-                    logger.debug("Sending WebSocket message to topic: {}", topic);
-                    messagingTemplate.convertAndSend(topic, savedNotification);
-                    logger.debug("WebSocket message sent to receiver: {}", receiverId);
+        try {
+            notificationBatchWriter.insertAll(notifications);
+            return notifications;
+        } catch (Exception e) {
+            logger.error("Batch insert of {} notifications failed, retrying individually: {}",
+                    notifications.size(), e.getMessage());
+        }
 
-                    successCount++;
-                } catch (Exception e) {
-                    failCount++;
-                    logger.error("Failed to send notification to receiver {}: {}",
-                            receiverId, e.getMessage());
-                }
+        List<Notification> saved = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            if (notification.getId() != null) {
+                saved.add(notification);
+                continue;
             }
+            try {
+                notificationBatchWriter.insertAll(List.of(notification));
+                saved.add(notification);
+            } catch (Exception e) {
+                logger.error("Failed to save notification for receiver {}: {}",
+                        notification.getReceiverId(), e.getMessage());
+                result.getResults().add(new ReceiverResult(
+                        notification.getReceiverId(), null, DeliveryStatus.FAILED, e.getMessage()));
+            }
+        }
+        return saved;
+    }
 
-            logger.info("Batch notification completed - Success: {}, Failed: {}, Total: {}",
-                    successCount, failCount, receiverIds.size());
-            logger.info("===============================================");
-
-            return notification;
+    private void awaitPushes(List<CompletableFuture<Void>> pushes) {
+        if (pushes.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(pushes.toArray(new CompletableFuture[0]))
+                    .get(pushAwaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Not all WebSocket pushes finished within {}; reporting them as pending", pushAwaitTimeout);
+        } catch (ExecutionException e) {
+            // Individual failures are reported per receiver
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-        } catch (Exception e) {
-            logger.error("Failed to send batch notifications: {}", e.getMessage(), e);
-            logger.info("===============================================");
-            throw e;
+    private String pushError(CompletableFuture<Void> push) {
+        try {
+            push.join();
+            return null;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getMessage();
         }
     }
 
+    private Notification newNotification(BulkNotificationRequest bulkRequest, String receiverId,
+            LocalDateTime timestamp) {
+        Notification notification = new Notification();
+        notification.setSenderId(bulkRequest.getSenderId());
+        notification.setSenderType(bulkRequest.getSenderType());
+        notification.setReceiverId(receiverId);
+        notification.setReceiverType(bulkRequest.getReceiverType());
+        notification.setNotificationType(bulkRequest.getNotificationType());
+        notification.setMessage(bulkRequest.getMessage());
+        notification.setTitle(bulkRequest.getTitle());
+        notification.setSeen(false);
+        notification.setTimestamp(timestamp);
+        return notification;
+    }
+
+    /**
+     * Whole notification history of a receiver, newest first
+     * Unbounded; new clients should page through getInbox instead
+     */
+    @Transactional(readOnly = true)
     public List<Notification> getNotificationsByReceiverId(String receiverId) {
-        logger.info("===============================================");
-        logger.info("NotificationService: Fetching notifications for receiver: {}", receiverId);
+        List<Notification> notifications = notificationDao.findByReceiverIdOrderByTimestampDesc(receiverId);
+        logger.info("Fetched {} notifications for receiver {}", notifications.size(), receiverId);
+        return notifications;
+    }
 
-        try {
-            logger.debug("Querying database for receiver ID: {}", receiverId);
-            List<Notification> notifications = notificationDao.findByReceiverIdOrderByTimestampDesc(receiverId);
+    /**
+     * One page of a receiver's inbox, newest first (keyset pagination)
+     *
+     * @param receiverId Receiver ID
+     * @param cursor     nextCursor from the previous page, or null for the first page
+     * @param limit      Page size (clamped to 1..MAX_PAGE_SIZE)
+     * @return Page of notification views
+     */
+    @Transactional(readOnly = true)
+    public NotificationPage getInbox(String receiverId, String cursor, int limit) {
+        logger.info("NotificationService: Fetching inbox for receiver: {} (cursor: {}, limit: {})",
+                receiverId, cursor, limit);
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Fetch one extra row to learn whether another page exists
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notificationDao.findInboxFirstPage(receiverId, pageable);
+        } else {
+            InboxCursor position = InboxCursor.decode(cursor);
+            rows = notificationDao.findInboxPageAfter(receiverId, position.timestamp(), position.id(), pageable);
+        }
 
-            logger.debug("Found {} notifications, sorting by timestamp...", notifications.size());
-            notifications.sort(Comparator.comparing(Notification::getTimestamp).reversed());
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationView> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            NotificationView last = items.get(items.size() - 1);
+            nextCursor = new InboxCursor(last.getTimestamp(), last.getId()).encode();
+        }
 
-            long unseenCount = notifications.stream().filter(n -> !n.getSeen()).count();
-            logger.info("Fetched {} notifications for receiver {} ({} unseen)",
-                    notifications.size(), receiverId, unseenCount);
-            logger.info("===============================================");
+        logger.info("Fetched {} notifications for receiver {} (more: {})", items.size(), receiverId, hasMore);
+        return new NotificationPage(items, nextCursor, hasMore);
+    }
 
-            return notifications;
+    @Transactional(readOnly = true)
+    public long countUnseen(String receiverId) {
+        long unseen = notificationDao.countUnseen(receiverId);
+        logger.debug("Receiver {} has {} unseen notifications", receiverId, unseen);
+        return unseen;
+    }
 
-        } catch (Exception e) {
-            logger.error("Failed to fetch notifications for receiver {}: {}",
-                    receiverId, e.getMessage(), e);
-            logger.info("===============================================");
-            throw e;
+    /**
+     * Mark the given notifications of a receiver as seen in one UPDATE
+     *
+     * @return Number of notifications that changed
+     */
+    @Transactional
+    public int markSeen(String receiverId, List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return 0;
         }
+        int updated = notificationDao.markSeen(receiverId, notificationIds);
+        logger.info("Marked {} notifications as seen for receiver {}", updated, receiverId);
+        return updated;
+    }
+
+    @Transactional
+    public int markAllSeen(String receiverId) {
+        int updated = notificationDao.markAllSeen(receiverId);
+        logger.info("Marked all ({}) notifications as seen for receiver {}", updated, receiverId);
+        return updated;
+    }
+
+    /**
+     * Mark one notification as seen; only changes it if it belongs to the receiver
+     */
+    @Transactional
+    public boolean markSeen(Long notificationId, String receiverId) {
+        boolean updated = notificationDao.markSeenById(notificationId, receiverId) > 0;
+        logger.info("Notification {} marked as seen for receiver {}: {}", notificationId, receiverId, updated);
+        return updated;
     }
 }
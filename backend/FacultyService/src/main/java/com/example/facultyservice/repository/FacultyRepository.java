@@ -2,12 +2,19 @@ package com.example.facultyservice.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.facultyservice.dto.FacultySummary;
 import com.example.facultyservice.entity.Faculty;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface FacultyRepository extends JpaRepository<Faculty, Integer> {
 
@@ -16,8 +23,26 @@ public interface FacultyRepository extends JpaRepository<Faculty, Integer> {
     @Query("SELECT  COUNT(f) FROM Faculty f")
     Integer findTotalUsers();
 
+    // Query cache: results are ids resolved from the entity cache, and are
+    // invalidated whenever the faculty table is written
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Override
+    List<Faculty> findAll();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Faculty findByEmail(String email);
 
     @Query("SELECT f.email FROM Faculty f")
     List<String> findAllEmails();
+
+    // Listing projections: only the summary columns, no bio or skills
+    @Query(value = "SELECT new com.example.facultyservice.dto.FacultySummary(f.fId, f.name, f.department, f.ratings) "
+            + "FROM Faculty f",
+            countQuery = "SELECT COUNT(f) FROM Faculty f")
+    Page<FacultySummary> findSummaries(Pageable pageable);
+
+    // Keyset page: ids after the cursor, in id order
+    @Query("SELECT new com.example.facultyservice.dto.FacultySummary(f.fId, f.name, f.department, f.ratings) "
+            + "FROM Faculty f WHERE f.fId > :after ORDER BY f.fId")
+    List<FacultySummary> findSummariesAfter(@Param("after") int after, Pageable limit);
 }
@@ -0,0 +1,76 @@
+package com.example.facultyservice.search;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/search")
+@Slf4j
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @PostConstruct
+    public void init() {
+        log.info("=================================================");
+        log.info("SearchController initialized and ready!");
+        log.info("Available Endpoints:");
+        log.info("  GET    /api/search?q=&type=&skills=&status=&page=&size=");
+        log.info("  POST   /api/search/reindex");
+        log.info("=================================================");
+    }
+
+    /**
+     * Search projects and faculty
+     * GET /api/search?q=machine learning&type=PROJECT&skills=python,pytorch&page=0&size=20
+     */
+    @GetMapping
+    public ResponseEntity<SearchPage> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("===============================================");
+        log.info("Controller: GET /api/search - Query: '{}', Type: {}, Skills: {}, Status: {}",
+                q, type, skills, status);
+
+        SearchPage result = searchService.search(q, type, skills, status, page, size);
+        log.info("Controller: Returning {} hits (more: {})", result.getItems().size(), result.isHasMore());
+        log.info("===============================================");
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Rebuild the whole index (after bulk SQL changes)
+     * POST /api/search/reindex
+     */
+    @PostMapping("/reindex")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<Map<String, Integer>> reindex() {
+        log.info("===============================================");
+        log.info("Controller: POST /api/search/reindex");
+
+        int indexed = searchIndexer.rebuild();
+        log.info("Controller: Reindexed {} documents", indexed);
+        log.info("===============================================");
+        return ResponseEntity.ok(Map.of("indexed", indexed));
+    }
+}
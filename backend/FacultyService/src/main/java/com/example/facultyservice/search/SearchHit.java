@@ -0,0 +1,23 @@
+package com.example.facultyservice.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit {
+    // PROJECT or FACULTY
+    private String type;
+    private Integer id;
+    // Project title or faculty name
+    private String title;
+    // Project status or faculty department
+    private String subtitle;
+    private List<String> skills;
+    // Text relevance; 0 when no text query was given
+    private double score;
+}
@@ -0,0 +1,72 @@
+package com.example.facultyservice.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Creates the search_document table and its GIN indexes, and fills it once
+ *
+ * The table is not a JPA entity (ddl-auto cannot declare tsvector columns or
+ * GIN indexes), so it is created here after Hibernate has updated the schema.
+ * An empty index is rebuilt from the project and faculty tables when the
+ * application is ready.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class SearchIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @PostConstruct
+    public void init() {
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS search_document ("
+                    + "entity_type VARCHAR(16) NOT NULL, "
+                    + "entity_id INTEGER NOT NULL, "
+                    + "title TEXT, "
+                    + "subtitle TEXT, "
+                    + "status VARCHAR(32), "
+                    + "skills TEXT[] NOT NULL DEFAULT '{}', "
+                    + "skill_keys TEXT[] NOT NULL DEFAULT '{}', "
+                    + "document TSVECTOR NOT NULL, "
+                    + "updated_at TIMESTAMPTZ NOT NULL, "
+                    + "PRIMARY KEY (entity_type, entity_id))");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_search_document_document "
+                    + "ON search_document USING GIN (document)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_search_document_skill_keys "
+                    + "ON search_document USING GIN (skill_keys)");
+            logger.info("✓ search_document table ready");
+        } catch (Exception e) {
+            logger.error("❌ Failed to create search_document table: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            Boolean empty = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM search_document)", Boolean.class);
+            if (Boolean.TRUE.equals(empty)) {
+                searchIndexer.rebuild();
+            }
+        } catch (Exception e) {
+            // Search stays empty until a reindex; the rest of the service is unaffected
+            logger.error("❌ Search index backfill failed: {}", e.getMessage(), e);
+        }
+    }
+}
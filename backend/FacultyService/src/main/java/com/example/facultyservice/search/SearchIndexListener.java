@@ -0,0 +1,42 @@
+package com.example.facultyservice.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.example.facultyservice.entity.Faculty;
+import com.example.facultyservice.entity.Project;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on Project and Faculty that keeps search_document in step
+ *
+ * Hibernate creates it through Spring's bean container, so injection works.
+ * Bulk JPQL/native updates bypass entity callbacks; use the reindex endpoint
+ * after those.
+ */
+public class SearchIndexListener {
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Project project) {
+            searchIndexer.indexProject(project);
+        } else if (entity instanceof Faculty faculty) {
+            searchIndexer.indexFaculty(faculty);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Project project) {
+            searchIndexer.remove(SearchIndexer.TYPE_PROJECT, project.getProjectId());
+        } else if (entity instanceof Faculty faculty && faculty.getFId() != null) {
+            searchIndexer.remove(SearchIndexer.TYPE_FACULTY, faculty.getFId());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.facultyservice.search;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.facultyservice.entity.Faculty;
+import com.example.facultyservice.entity.Project;
+import com.example.facultyservice.repository.FacultyRepository;
+import com.example.facultyservice.repository.ProjectRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * SearchIndexer - Maintains search_document rows for projects and faculty
+ *
+ * Each project/faculty has one row whose tsvector is weighted:
+ * A = title/name and skills, B = department, C = description/bio.
+ * Rows are upserted from SearchIndexListener as entities are flushed, on the
+ * same connection and transaction as the entity write.
+ */
+@Component
+public class SearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexer.class);
+
+    public static final String TYPE_PROJECT = "PROJECT";
+    public static final String TYPE_FACULTY = "FACULTY";
+
+    // Unit separator: joins skills into one parameter for string_to_array
+    private static final String SKILL_SEPARATOR = "\u001f";
+
+    private static final int REBUILD_PAGE_SIZE = 200;
+
+    private static final String UPSERT_SQL = "INSERT INTO search_document "
+            + "(entity_type, entity_id, title, subtitle, status, skills, skill_keys, document, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, string_to_array(?, chr(31)), string_to_array(?, chr(31)), "
+            + "setweight(to_tsvector('english', coalesce(?, '')), 'A') "
+            + "|| setweight(to_tsvector('english', coalesce(?, '')), 'A') "
+            + "|| setweight(to_tsvector('english', coalesce(?, '')), 'B') "
+            + "|| setweight(to_tsvector('english', coalesce(?, '')), 'C'), now()) "
+            + "ON CONFLICT (entity_type, entity_id) DO UPDATE SET "
+            + "title = EXCLUDED.title, subtitle = EXCLUDED.subtitle, status = EXCLUDED.status, "
+            + "skills = EXCLUDED.skills, skill_keys = EXCLUDED.skill_keys, "
+            + "document = EXCLUDED.document, updated_at = EXCLUDED.updated_at";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void indexProject(Project project) {
+        String status = project.getStatus() != null ? project.getStatus().name() : null;
+        upsert(TYPE_PROJECT, project.getProjectId(), project.getTitle(), status, status,
+                project.getSkills(), null, project.getDescription());
+    }
+
+    public void indexFaculty(Faculty faculty) {
+        upsert(TYPE_FACULTY, faculty.getFId(), faculty.getName(), faculty.getDepartment(), null,
+                faculty.getSkills(), faculty.getDepartment(), faculty.getBio());
+    }
+
+    public void remove(String entityType, int entityId) {
+        jdbcTemplate.update("DELETE FROM search_document WHERE entity_type = ? AND entity_id = ?",
+                entityType, entityId);
+    }
+
+    /**
+     * Re-index every project and faculty member, a page per transaction
+     *
+     * @return Number of documents written
+     */
+    public int rebuild() {
+        logger.info("Rebuilding search index");
+        int indexed = 0;
+
+        for (int page = 0;; page++) {
+            PageRequest request = PageRequest.of(page, REBUILD_PAGE_SIZE, Sort.by("projectId"));
+            Integer count = transactionTemplate.execute(status -> {
+                Page<Project> projects = projectRepository.findAll(request);
+                projects.forEach(this::indexProject);
+                return projects.getNumberOfElements();
+            });
+            indexed += count;
+            if (count < REBUILD_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        for (int page = 0;; page++) {
+            PageRequest request = PageRequest.of(page, REBUILD_PAGE_SIZE, Sort.by("fId"));
+            Integer count = transactionTemplate.execute(status -> {
+                Page<Faculty> faculty = facultyRepository.findAll(request);
+                faculty.forEach(this::indexFaculty);
+                return faculty.getNumberOfElements();
+            });
+            indexed += count;
+            if (count < REBUILD_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        logger.info("✓ Search index rebuilt - {} documents", indexed);
+        return indexed;
+    }
+
+    private void upsert(String entityType, Integer entityId, String title, String subtitle, String status,
+            List<String> skills, String department, String body) {
+        if (entityId == null) {
+            return;
+        }
+        List<String> cleanSkills = skills == null ? List.of()
+                : skills.stream().filter(Objects::nonNull).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        String skillList = String.join(SKILL_SEPARATOR, cleanSkills);
+        String skillKeys = skillList.toLowerCase(Locale.ROOT);
+        String skillText = String.join(" ", cleanSkills);
+
+        jdbcTemplate.update(UPSERT_SQL, entityType, entityId, title, subtitle, status, skillList, skillKeys,
+                title, skillText, department, body);
+    }
+}
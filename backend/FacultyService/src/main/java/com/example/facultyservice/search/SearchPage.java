@@ -0,0 +1,17 @@
+package com.example.facultyservice.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPage {
+    private List<SearchHit> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
@@ -0,0 +1,132 @@
+package com.example.facultyservice.search;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.facultyservice.entity.Status;
+
+/**
+ * SearchService - Ranked project/faculty search over search_document
+ *
+ * Text queries use websearch_to_tsquery (quoted phrases, OR, -exclusions) and
+ * are ranked with ts_rank_cd; skill filters require every listed skill
+ * (case-insensitive) and are answered from the GIN index on skill_keys.
+ * Projects are only returned in the statuses the project listing shows
+ * (ProjectRepository.findVisibleProjects), whatever the status filter says.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private static final List<String> LISTED_PROJECT_STATUSES = List.of(Status.OPEN_FOR_APPLICATIONS.name());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param query  Free text; may be blank to list by filters only
+     * @param type   PROJECT, FACULTY, or null for both
+     * @param skills Skills every hit must have; may be empty
+     * @param status Project status filter; may be null. Statuses outside
+     *               LISTED_PROJECT_STATUSES match no projects
+     */
+    public SearchPage search(String query, String type, List<String> skills, String status, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(page, 0);
+        String entityType = normalizeType(type);
+        boolean hasText = query != null && !query.isBlank();
+
+        StringBuilder sql = new StringBuilder("SELECT d.entity_type, d.entity_id, d.title, d.subtitle, d.skills, ");
+        List<Object> params = new ArrayList<>();
+
+        if (hasText) {
+            sql.append("ts_rank_cd(d.document, q) AS score FROM search_document d, "
+                    + "websearch_to_tsquery('english', ?) q WHERE d.document @@ q");
+            params.add(query.trim());
+        } else {
+            sql.append("0 AS score FROM search_document d WHERE TRUE");
+        }
+
+        if (entityType != null) {
+            sql.append(" AND d.entity_type = ?");
+            params.add(entityType);
+        }
+
+        sql.append(" AND (d.entity_type <> ? OR d.status IN (")
+                .append(String.join(", ", LISTED_PROJECT_STATUSES.stream().map(listed -> "?").toList()))
+                .append("))");
+        params.add(SearchIndexer.TYPE_PROJECT);
+        params.addAll(LISTED_PROJECT_STATUSES);
+
+        List<String> skillKeys = skills == null ? List.of()
+                : skills.stream()
+                        .filter(Objects::nonNull)
+                        .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+                        .filter(skill -> !skill.isEmpty())
+                        .distinct()
+                        .toList();
+        if (!skillKeys.isEmpty()) {
+            sql.append(" AND d.skill_keys @> string_to_array(?, chr(31))");
+            params.add(String.join("\u001f", skillKeys));
+        }
+
+        if (status != null && !status.isBlank()) {
+            sql.append(" AND d.status = ?");
+            params.add(status.trim().toUpperCase(Locale.ROOT));
+        }
+
+        sql.append(hasText ? " ORDER BY score DESC, d.entity_type, d.entity_id" : " ORDER BY d.title, d.entity_id");
+        // One extra row tells whether another page exists
+        sql.append(" LIMIT ? OFFSET ?");
+        params.add(pageSize + 1);
+        params.add((long) pageNumber * pageSize);
+
+        List<SearchHit> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new SearchHit(
+                rs.getString("entity_type"),
+                rs.getInt("entity_id"),
+                rs.getString("title"),
+                rs.getString("subtitle"),
+                toList(rs.getArray("skills")),
+                rs.getDouble("score")), params.toArray());
+
+        boolean hasMore = rows.size() > pageSize;
+        List<SearchHit> items = hasMore ? rows.subList(0, pageSize) : rows;
+        logger.debug("Search '{}' (type: {}, skills: {}, status: {}) - {} hits on page {}",
+                query, entityType, skillKeys, status, items.size(), pageNumber);
+        return new SearchPage(items, pageNumber, pageSize, hasMore);
+    }
+
+    private String normalizeType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        String normalized = type.trim().toUpperCase(Locale.ROOT);
+        if (!SearchIndexer.TYPE_PROJECT.equals(normalized) && !SearchIndexer.TYPE_FACULTY.equals(normalized)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown search type: " + type);
+        }
+        return normalized;
+    }
+
+    private List<String> toList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.asList((String[]) array.getArray());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.facultyservice.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Verifies the X-User-* headers signed by the API Gateway
+ *
+ * The gateway already verified the JWT; it forwards the principal together with
+ * an HMAC-SHA256 over "userId\nrole\nemail\nexpiresEpochSeconds" in
+ * X-User-Signature. Checking that HMAC replaces a full JWT parse per request.
+ */
+@Component
+public class GatewayPrincipalVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayPrincipalVerifier.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${security.gateway.trust-signed-headers:true}")
+    private boolean enabled;
+
+    @Value("${security.gateway.header-secret}")
+    private String headerSecret;
+
+    private SecretKeySpec key;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    public void init() {
+        this.key = new SecretKeySpec(headerSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        newMac();
+        logger.info("Gateway signed headers trusted: {}", enabled);
+    }
+
+    /**
+     * Resolve the principal from gateway-signed headers
+     *
+     * @param request Incoming request
+     * @return Verified principal, or null if the headers are absent, expired or not
+     *         signed by the gateway
+     */
+    public VerifiedPrincipal verify(HttpServletRequest request) {
+        if (!enabled) {
+            return null;
+        }
+
+        String signature = request.getHeader("X-User-Signature");
+        String userId = request.getHeader("X-User-Id");
+        String role = request.getHeader("X-User-Role");
+        String expires = request.getHeader("X-User-Expires");
+        if (signature == null || userId == null || role == null || expires == null) {
+            return null;
+        }
+
+        String email = request.getHeader("X-User-Email");
+        if (email == null) {
+            email = "";
+        }
+
+        try {
+            long expiresAtMillis = Long.parseLong(expires) * 1000;
+            if (expiresAtMillis <= System.currentTimeMillis()) {
+                logger.debug("Gateway principal headers expired for userId={}", userId);
+                return null;
+            }
+
+            String canonical = userId + "\n" + role + "\n" + email + "\n" + expires;
+            byte[] expected = macs.get().doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+            byte[] actual = Base64.getUrlDecoder().decode(signature);
+
+            if (!MessageDigest.isEqual(expected, actual)) {
+                logger.warn("❌ Invalid gateway principal signature for userId={}", userId);
+                return null;
+            }
+
+            return new VerifiedPrincipal(Long.parseLong(userId), role, email.isEmpty() ? null : email,
+                    expiresAtMillis);
+
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException or bad base64
+            logger.warn("❌ Malformed gateway principal headers: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialise gateway principal verifier", e);
+        }
+    }
+}
@@ -30,7 +30,9 @@ import jakarta.servlet.http.HttpServletResponse;
  * - Set authentication in SecurityContext
  * 
  * Note: API Gateway already validates JWT
- * This filter extracts user info from pre-validated headers
+ * This filter trusts the gateway-signed X-User-* headers (see
+ * GatewayPrincipalVerifier) and only parses the JWT when they are missing
+ * or invalid, at most once per distinct token (see JwtUtil)
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -40,6 +42,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private GatewayPrincipalVerifier gatewayPrincipalVerifier;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
             HttpServletResponse response,
@@ -58,38 +63,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            // Extract JWT token from header
-            String token = extractTokenFromRequest(request);
-
-            if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Validate token
-                jwtUtil.validateToken(token);
-
-                // Extract user information
-                String username = jwtUtil.extractUsername(token);
-                String role = jwtUtil.extractRole(token);
-                Long userId = jwtUtil.extractUserId(token);
-
-                logger.debug("Authenticated user: username={}, role={}, userId={}",
-                        username, role, userId);
-
-                // Create authentication object
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        username,
-                        null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
-
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                // Set authentication in context
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                // Add user info to request attributes
-                request.setAttribute("userId", userId);
-                request.setAttribute("username", username);
-                request.setAttribute("role", role);
-
-                logger.info("✓ Authentication successful for user: {}", username);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Prefer the gateway-signed headers (one HMAC), fall back to a single JWT parse
+                VerifiedPrincipal principal = gatewayPrincipalVerifier.verify(request);
+
+                if (principal == null) {
+                    String token = extractTokenFromRequest(request);
+                    if (token != null) {
+                        principal = jwtUtil.parsePrincipal(token);
+                    }
+                }
+
+                if (principal != null) {
+                    authenticate(request, principal);
+                }
             }
 
         } catch (Exception e) {
@@ -102,6 +89,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Set authentication in SecurityContext and expose user info as request attributes
+     */
+    private void authenticate(HttpServletRequest request, VerifiedPrincipal principal) {
+        String username = principal.username() != null ? principal.username() : String.valueOf(principal.userId());
+        String role = principal.role();
+        Long userId = principal.userId();
+
+        logger.debug("Authenticated user: username={}, role={}, userId={}",
+                username, role, userId);
+
+        // Create authentication object
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                username,
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        // Set authentication in context
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // Add user info to request attributes
+        request.setAttribute("userId", userId);
+        request.setAttribute("username", username);
+        request.setAttribute("role", role);
+
+        logger.info("✓ Authentication successful for user: {}", username);
+    }
+
     /**
      * Extract JWT token from Authorization header
      */
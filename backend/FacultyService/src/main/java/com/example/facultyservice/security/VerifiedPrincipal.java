@@ -0,0 +1,19 @@
+package com.example.facultyservice.security;
+
+/**
+ * Authenticated caller resolved by JwtAuthenticationFilter
+ *
+ * Built either from gateway-signed X-User-* headers or from a single JWT parse,
+ * and shared between requests through the JwtUtil claims cache.
+ *
+ * @param userId    User id ("userId" claim / X-User-Id)
+ * @param role      Role without the ROLE_ prefix (e.g. FACULTY)
+ * @param username  User email (token subject / X-User-Email)
+ * @param expiresAt Expiry in epoch milliseconds
+ */
+public record VerifiedPrincipal(Long userId, String role, String username, long expiresAt) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+}
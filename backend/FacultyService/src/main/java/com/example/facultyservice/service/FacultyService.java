@@ -1,14 +1,28 @@
 package com.example.facultyservice.service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.example.facultyservice.client.StudentClient;
+import com.example.facultyservice.dto.FacultySummary;
+import com.example.facultyservice.dto.FacultySummaryPage;
+import com.example.facultyservice.dto.ProjectDashboardItem;
 import com.example.facultyservice.entity.Faculty;
+import com.example.facultyservice.entity.Project;
 import com.example.facultyservice.repository.FacultyRepository;
+import com.example.facultyservice.repository.ProjectRepository;
+import com.example.facultyservice.search.SearchIndexer;
 
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -17,9 +31,30 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class FacultyService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // StudentService rejects batch requests over 500 ids
+    private static final int STUDENT_BATCH_SIZE = 500;
+
+    // Request sort name -> entity property
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "fId",
+            "name", "name",
+            "department", "department",
+            "ratings", "ratings");
+
     @Autowired
     private FacultyRepository facultyRepository;
 
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private StudentClient studentClient;
+
     @PostConstruct
     public void init() {
         log.info("FacultyService initialized and ready");
@@ -31,7 +66,6 @@ public class FacultyService {
         try {
             List<Faculty> facultyList = facultyRepository.findAll();
             log.info("Service: Successfully fetched {} faculty members", facultyList.size());
-            log.debug("Service: Faculty list: {}", facultyList);
             return facultyList;
         } catch (Exception e) {
             log.error("Service: Error fetching all faculty: {}", e.getMessage(), e);
@@ -39,6 +73,57 @@ public class FacultyService {
         }
     }
 
+    /**
+     * Offset page of faculty summaries
+     *
+     * @param sort Property and direction, e.g. "name,asc"; one of id, name, department, ratings
+     */
+    public FacultySummaryPage getFacultySummaries(int page, int size, String sort) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.info("Service: Fetching faculty summaries - Page: {}, Size: {}, Sort: {}", page, pageSize, sort);
+
+        Page<FacultySummary> result = facultyRepository.findSummaries(
+                PageRequest.of(Math.max(page, 0), pageSize, parseSort(sort)));
+        List<FacultySummary> items = result.getContent();
+
+        log.info("Service: Fetched {} of {} faculty summaries", items.size(), result.getTotalElements());
+        return new FacultySummaryPage(items, result.getNumber(), result.getTotalElements(),
+                null, result.hasNext());
+    }
+
+    /**
+     * Keyset page of faculty summaries in id order, starting after the given id
+     */
+    public FacultySummaryPage getFacultySummariesAfter(int after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.info("Service: Fetching faculty summaries after ID: {}, Size: {}", after, pageSize);
+
+        // One extra row tells whether another page exists without a count query
+        List<FacultySummary> rows = facultyRepository.findSummariesAfter(after, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<FacultySummary> items = hasMore ? rows.subList(0, pageSize) : rows;
+        Integer nextCursor = hasMore ? items.get(items.size() - 1).getId() : null;
+
+        log.info("Service: Fetched {} faculty summaries (more: {})", items.size(), hasMore);
+        return new FacultySummaryPage(items, null, null, nextCursor, hasMore);
+    }
+
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("name").and(Sort.by("fId"));
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!SORTABLE_PROPERTIES.containsKey(property)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot sort by " + property);
+        }
+        Sort.Direction direction = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim())
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+        // Tie-break on id so pages stay stable when sort values repeat
+        return Sort.by(direction, SORTABLE_PROPERTIES.get(property)).and(Sort.by("fId"));
+    }
+
     public Optional<Faculty> getFacultyById(Integer id) {
         log.info("Service: Fetching faculty by ID: {}", id);
 
@@ -80,6 +165,36 @@ public class FacultyService {
         }
     }
 
+    /**
+     * Projects of a faculty member with their application counts
+     * All counts come from batch calls to student-service (one per 500
+     * projects), not one call per listed project
+     */
+    public List<ProjectDashboardItem> getProjectDashboard(Integer facultyId) {
+        log.info("Service: Fetching project dashboard for faculty ID: {}", facultyId);
+
+        List<Project> projects = projectRepository.findByFacultyId(facultyId.longValue());
+        List<Integer> projectIds = projects.stream().map(Project::getProjectId).toList();
+        Map<Integer, Integer> applicants = new HashMap<>();
+        for (int from = 0; from < projectIds.size(); from += STUDENT_BATCH_SIZE) {
+            applicants.putAll(studentClient.getStudentCountsByProjects(
+                    projectIds.subList(from, Math.min(from + STUDENT_BATCH_SIZE, projectIds.size()))));
+        }
+
+        List<ProjectDashboardItem> items = projects.stream()
+                .map(project -> new ProjectDashboardItem(
+                        project.getProjectId(),
+                        project.getTitle(),
+                        project.getStatus(),
+                        project.getApplicationDeadline(),
+                        project.getMaxStudents(),
+                        applicants.get(project.getProjectId())))
+                .toList();
+        log.info("Service: Project dashboard for faculty {} - {} projects, {} counts",
+                facultyId, items.size(), applicants.size());
+        return items;
+    }
+
     public Faculty createFaculty(Faculty faculty) {
         log.info("Service: Creating new faculty: {}", faculty.getEmail());
         log.debug("Service: Faculty details - Name: {}, Email: {}, Department: {}",
@@ -188,6 +303,9 @@ public class FacultyService {
             }
 
             Faculty updatedFaculty = facultyRepository.save(faculty);
+            // Skills are an element collection: changing only them does not fire
+            // @PostUpdate on Faculty, so SearchIndexListener would miss it
+            searchIndexer.indexFaculty(updatedFaculty);
             log.info("Service: Faculty updated successfully - ID: {}, Email: {}",
                     updatedFaculty.getFId(), updatedFaculty.getEmail());
 
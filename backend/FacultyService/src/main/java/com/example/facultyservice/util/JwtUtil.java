@@ -2,21 +2,37 @@ package com.example.facultyservice.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.example.facultyservice.security.VerifiedPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 
 /**
  * JWT Utility for Faculty Service
  * Validates tokens sent by API Gateway
+ *
+ * The signing key and parser are built once; each distinct token is parsed
+ * once and its principal cached (by SHA-256 of the token) until it expires.
+ * The cache is a Caffeine cache bounded by jwt.claims-cache.max-size, so new
+ * tokens are still cached when it is full.
  */
 @Component
 public class JwtUtil {
@@ -26,17 +42,49 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String secret;
 
-    private SecretKey getSigningKey() {
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    private JwtParser jwtParser;
+
+    private Cache<String, VerifiedPrincipal> principalCache;
+
+    @PostConstruct
+    public void init() {
         byte[] keyBytes = Base64.getDecoder().decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.<String, VerifiedPrincipal>creating((key, principal) -> Duration.ofMillis(
+                        Math.max(principal.expiresAt() - System.currentTimeMillis(), 0))))
+                .build();
     }
 
     public void validateToken(String token) {
+        parsePrincipal(token);
+    }
+
+    /**
+     * Verify a token once and return its principal
+     *
+     * @param token JWT token
+     * @return Principal (userId, role, username, expiry)
+     */
+    public VerifiedPrincipal parsePrincipal(String token) {
+        long now = System.currentTimeMillis();
+        String key = cacheKey(token);
+
+        VerifiedPrincipal cached = principalCache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached;
+        }
+
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            claims = jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             logger.error("Token expired: {}", e.getMessage());
             throw e;
@@ -47,29 +95,45 @@ public class JwtUtil {
             logger.error("Malformed token: {}", e.getMessage());
             throw e;
         }
+
+        long expiresAt = claims.getExpiration() == null ? 0L : claims.getExpiration().getTime();
+        VerifiedPrincipal principal = new VerifiedPrincipal(
+                toUserId(claims.get("userId")),
+                claims.get("role", String.class),
+                claims.getSubject(),
+                expiresAt);
+
+        if (!principal.isExpired(now)) {
+            principalCache.put(key, principal);
+        }
+        return principal;
     }
 
     public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+        return parsePrincipal(token).username();
     }
 
     public String extractRole(String token) {
-        return extractAllClaims(token).get("role", String.class);
+        return parsePrincipal(token).role();
     }
 
     public Long extractUserId(String token) {
-        Object userIdObj = extractAllClaims(token).get("userId");
+        return parsePrincipal(token).userId();
+    }
+
+    private Long toUserId(Object userIdObj) {
         if (userIdObj instanceof Integer) {
             return ((Integer) userIdObj).longValue();
         }
         return (Long) userIdObj;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private String cacheKey(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,157 @@
+package com.example.facultyservice.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Leader/follower hand-off of RequestCoalescer, outside a request (all
+ * lookups share the empty caller key)
+ */
+class RequestCoalescerTest {
+
+    // Long enough that a follower started shortly after the leader always joins its window
+    private static final Duration WINDOW = Duration.ofSeconds(2);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private final List<String> loaderThreads = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void loneLookupIsLoadedWithoutWaitingForTheWindow() {
+        RequestCoalescer<String> coalescer = coalescer(recording(ids -> names(ids)));
+
+        long started = System.nanoTime();
+        String name = coalescer.get(7);
+
+        assertThat(name).isEqualTo("project-7");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(WINDOW);
+        assertThat(batches).containsExactly(List.of(7));
+    }
+
+    @Test
+    void followersJoinTheLeadersBatchAndShareItsResult() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        RequestCoalescer<String> coalescer = coalescer(recording(ids -> {
+            if (batches.size() == 1) {
+                firstBatchStarted.countDown();
+                await(releaseFirstBatch);
+            }
+            return names(ids);
+        }));
+
+        // Lone lookup: loads at once and stays in flight until released
+        Future<String> first = executor.submit(() -> coalescer.get(1));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Another lookup is in progress, so this leader waits for the window
+        Future<String> leader = executor.submit(named("leader", () -> coalescer.get(2)));
+        Thread.sleep(200);
+        Future<String> follower = executor.submit(named("follower", () -> coalescer.get(3)));
+        Future<String> sameId = executor.submit(named("follower", () -> coalescer.get(3)));
+        releaseFirstBatch.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("project-1");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("project-2");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("project-3");
+        assertThat(sameId.get(5, TimeUnit.SECONDS)).isEqualTo("project-3");
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).containsExactlyInAnyOrder(2, 3);
+        // The batch ran on the leader's thread, with the leader's request context
+        assertThat(loaderThreads.get(1)).isEqualTo("leader");
+    }
+
+    @Test
+    void batchFailureIsRethrownToLeaderAndFollowers() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("student-service unavailable");
+        RequestCoalescer<String> coalescer = coalescer(recording(ids -> {
+            if (batches.size() == 1) {
+                firstBatchStarted.countDown();
+                await(releaseFirstBatch);
+                return names(ids);
+            }
+            throw failure;
+        }));
+
+        Future<String> first = executor.submit(() -> coalescer.get(1));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> leader = executor.submit(() -> coalescer.get(2));
+        Thread.sleep(200);
+        Future<String> follower = executor.submit(() -> coalescer.get(3));
+        releaseFirstBatch.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("project-1");
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(batches).hasSize(2);
+
+        // The failed window is gone: the next lookup starts a new batch
+        assertThatThrownBy(() -> coalescer.get(4)).isSameAs(failure);
+        assertThat(batches).hasSize(3);
+    }
+
+    private RequestCoalescer<String> coalescer(Function<List<Integer>, Map<Integer, String>> loader) {
+        DistributionSummary batchSizes = DistributionSummary.builder("test.batch.size")
+                .register(new SimpleMeterRegistry());
+        return new RequestCoalescer<>(WINDOW, 100, loader, batchSizes);
+    }
+
+    private Function<List<Integer>, Map<Integer, String>> recording(
+            Function<List<Integer>, Map<Integer, String>> loader) {
+        return ids -> {
+            batches.add(List.copyOf(ids));
+            loaderThreads.add(Thread.currentThread().getName());
+            return loader.apply(ids);
+        };
+    }
+
+    private static <T> Callable<T> named(String name, Callable<T> task) {
+        return () -> {
+            Thread.currentThread().setName(name);
+            return task.call();
+        };
+    }
+
+    private static Map<Integer, String> names(List<Integer> ids) {
+        Map<Integer, String> names = new HashMap<>();
+        ids.forEach(id -> names.put(id, "project-" + id));
+        return names;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
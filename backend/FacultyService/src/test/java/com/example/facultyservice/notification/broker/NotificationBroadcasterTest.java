@@ -0,0 +1,121 @@
+package com.example.facultyservice.notification.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Both broker modes of NotificationBroadcaster, and the amqp hop through
+ * NotificationBroadcastListener back to the local STOMP broker
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationBroadcasterTest {
+
+    private static final String EXCHANGE = "faculty-exchange";
+    private static final String DESTINATION = "/topic/notifications/42";
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Captor
+    private ArgumentCaptor<Message> amqpMessage;
+
+    @Captor
+    private ArgumentCaptor<org.springframework.messaging.Message<?>> stompMessage;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void simpleModeSendsToTheLocalBroker() {
+        NotificationBroadcaster broadcaster = broadcaster(NotificationBroadcaster.MODE_SIMPLE);
+        Map<String, Object> payload = Map.of("id", 7, "title", "Deadline");
+
+        broadcaster.send(DESTINATION, payload);
+
+        verify(messagingTemplate).convertAndSend(DESTINATION, (Object) payload);
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void amqpModePublishesOnceAndEveryReplicaForwardsTheSameJson() throws Exception {
+        NotificationBroadcaster broadcaster = broadcaster(NotificationBroadcaster.MODE_AMQP);
+        NotificationBroadcastListener listener = new NotificationBroadcastListener();
+        ReflectionTestUtils.setField(listener, "broadcaster", broadcaster);
+        Map<String, Object> payload = Map.of("id", 7, "title", "Deadline");
+
+        broadcaster.send(DESTINATION, payload);
+
+        verify(rabbitTemplate).send(eq(EXCHANGE), eq("notification.broadcast"), amqpMessage.capture());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        Message published = amqpMessage.getValue();
+        assertThat(published.getMessageProperties().<String>getHeader(NotificationBroadcaster.DESTINATION_HEADER))
+                .isEqualTo(DESTINATION);
+
+        listener.onBroadcast(published);
+
+        verify(messagingTemplate).send(eq(DESTINATION), stompMessage.capture());
+        org.springframework.messaging.Message<?> delivered = stompMessage.getValue();
+        // The JSON bytes themselves, not a base64 string of them
+        assertThat(delivered.getPayload()).isEqualTo(published.getBody());
+        assertThat(objectMapper.readValue((byte[]) delivered.getPayload(), Map.class)).isEqualTo(payload);
+        assertThat(delivered.getHeaders().get("contentType").toString())
+                .isEqualTo(MimeTypeUtils.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    void broadcastWithoutDestinationIsDropped() {
+        NotificationBroadcastListener listener = new NotificationBroadcastListener();
+        ReflectionTestUtils.setField(listener, "broadcaster", broadcaster(NotificationBroadcaster.MODE_AMQP));
+
+        listener.onBroadcast(MessageBuilder.withBody("{}".getBytes()).build());
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void unknownModeFailsAtStartup() {
+        assertThatThrownBy(() -> broadcaster("stomp-relay"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("stomp-relay");
+    }
+
+    private NotificationBroadcaster broadcaster(String mode) {
+        NotificationBroadcaster broadcaster = new NotificationBroadcaster();
+        ReflectionTestUtils.setField(broadcaster, "messagingTemplate", messagingTemplate);
+        ReflectionTestUtils.setField(broadcaster, "rabbitTemplate", rabbitTemplate);
+        ReflectionTestUtils.setField(broadcaster, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(broadcaster, "observationRegistry", ObservationRegistry.NOOP);
+        ReflectionTestUtils.setField(broadcaster, "mode", mode);
+        ReflectionTestUtils.setField(broadcaster, "exchange", EXCHANGE);
+        ReflectionTestUtils.setField(broadcaster, "routingKey", "notification.broadcast");
+        broadcaster.init();
+        return broadcaster;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.facultyservice.notification.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.facultyservice.messaging.IdempotencyStore;
+import com.example.facultyservice.messaging.ProcessedMessage;
+import com.example.facultyservice.messaging.ProcessedMessageRepository;
+import com.example.facultyservice.notification.model.BulkNotificationRequest;
+import com.example.facultyservice.notification.model.BulkNotificationResult;
+import com.example.facultyservice.notification.service.NotificationService;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Redelivery handling of the notification batch listener, with the real
+ * IdempotencyStore over an in-memory processed_message table
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationEventListenerTest {
+
+    private static final String QUEUE = "faculty-queue";
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private OutboxTracing outboxTracing;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Mock
+    private Span span;
+
+    @Mock
+    private Tracer.SpanInScope scope;
+
+    // processed_message rows by messageId
+    private final Map<String, ProcessedMessage> table = new ConcurrentHashMap<>();
+
+    private IdempotencyStore idempotencyStore;
+
+    private NotificationEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        backRepositoryWithTable();
+
+        idempotencyStore = new IdempotencyStore();
+        ReflectionTestUtils.setField(idempotencyStore, "processedMessageRepository", processedMessageRepository);
+        ReflectionTestUtils.setField(idempotencyStore, "maxSize", 100);
+        ReflectionTestUtils.setField(idempotencyStore, "ttl", Duration.ofHours(24));
+        ReflectionTestUtils.setField(idempotencyStore, "lease", Duration.ofMinutes(2));
+        idempotencyStore.init();
+
+        listener = new NotificationEventListener();
+        ReflectionTestUtils.setField(listener, "notificationService", notificationService);
+        ReflectionTestUtils.setField(listener, "idempotencyStore", idempotencyStore);
+        ReflectionTestUtils.setField(listener, "outboxTracing", outboxTracing);
+        ReflectionTestUtils.setField(listener, "rabbitTemplate", rabbitTemplate);
+        ReflectionTestUtils.setField(listener, "queue", QUEUE);
+
+        lenient().when(outboxTracing.startDeliverySpan(any(), anyString())).thenReturn(span);
+        lenient().when(outboxTracing.withSpan(span)).thenReturn(scope);
+        lenient().when(notificationService.sendBulkNotification(any())).thenReturn(new BulkNotificationResult());
+    }
+
+    @Test
+    void duplicateDeliveryIsDeliveredOnce() {
+        Message<BulkNotificationRequest> event = event("msg-1");
+
+        listener.onNotificationEvents(List.of(event, event));
+        // Broker redelivery after the ack was lost
+        listener.onNotificationEvents(List.of(event));
+
+        verify(notificationService, times(1)).sendBulkNotification(event.getPayload());
+        assertThat(table.get("msg-1").getLeaseUntil()).isNull();
+    }
+
+    @Test
+    void redeliveryWhileClaimIsLeasedIsDeferredNotFailed() {
+        // Another consumer claimed the event and is still delivering it (or died doing so)
+        idempotencyStore.tryAcquire("msg-1");
+        Message<BulkNotificationRequest> event = event("msg-1");
+
+        listener.onNotificationEvents(List.of(event));
+
+        verify(notificationService, never()).sendBulkNotification(any());
+        verify(rabbitTemplate).convertAndSend(eq(""), eq(QUEUE + ".retry"), eq(event.getPayload()),
+                any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void crashedClaimIsTakenOverOnceLeaseRunsOut() {
+        // Consumer claimed the event and crashed: no complete(), no release()
+        idempotencyStore.tryAcquire("msg-1");
+        Message<BulkNotificationRequest> event = event("msg-1");
+
+        listener.onNotificationEvents(List.of(event));
+        verify(notificationService, never()).sendBulkNotification(any());
+
+        // The deferred copy comes back after the lease has run out
+        table.get("msg-1").setLeaseUntil(LocalDateTime.now().minusSeconds(1));
+        listener.onNotificationEvents(List.of(event));
+        listener.onNotificationEvents(List.of(event));
+
+        verify(notificationService, times(1)).sendBulkNotification(event.getPayload());
+        assertThat(table.get("msg-1").getLeaseUntil()).isNull();
+    }
+
+    @Test
+    void failedDeliveryReleasesClaimAndFailsBatch() {
+        Message<BulkNotificationRequest> event = event("msg-1");
+        when(notificationService.sendBulkNotification(event.getPayload()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(new BulkNotificationResult());
+
+        assertThatThrownBy(() -> listener.onNotificationEvents(List.of(event)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(table).doesNotContainKey("msg-1");
+
+        // Batch retry
+        listener.onNotificationEvents(List.of(event));
+
+        verify(notificationService, times(2)).sendBulkNotification(event.getPayload());
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class),
+                any(MessagePostProcessor.class));
+    }
+
+    private static Message<BulkNotificationRequest> event(String messageId) {
+        BulkNotificationRequest request = new BulkNotificationRequest();
+        request.setTitle("Deadline");
+        request.setMessage("Submit by Friday");
+        request.setReceiverIds(List.of("1", "2"));
+        return MessageBuilder.withPayload(request)
+                .setHeader(AmqpHeaders.MESSAGE_ID, messageId)
+                .build();
+    }
+
+    /**
+     * Same semantics as the queries in ProcessedMessageRepository
+     */
+    private void backRepositoryWithTable() {
+        lenient().when(processedMessageRepository.insertIfAbsent(anyString(), any(), any())).thenAnswer(invocation -> {
+            ProcessedMessage row = new ProcessedMessage(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2));
+            return table.putIfAbsent(row.getMessageId(), row) == null ? 1 : 0;
+        });
+        lenient().when(processedMessageRepository.takeOverExpired(anyString(), any(), any())).thenAnswer(invocation -> {
+            ProcessedMessage row = table.get((String) invocation.getArgument(0));
+            LocalDateTime now = invocation.getArgument(1);
+            if (row == null || row.getLeaseUntil() == null || !row.getLeaseUntil().isBefore(now)) {
+                return 0;
+            }
+            row.setProcessedAt(now);
+            row.setLeaseUntil(invocation.getArgument(2));
+            return 1;
+        });
+        lenient().when(processedMessageRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(table.get((String) invocation.getArgument(0))));
+        lenient().when(processedMessageRepository.markCompleted(anyString(), any())).thenAnswer(invocation -> {
+            ProcessedMessage row = table.get((String) invocation.getArgument(0));
+            if (row == null) {
+                return 0;
+            }
+            row.setProcessedAt(invocation.getArgument(1));
+            row.setLeaseUntil(null);
+            return 1;
+        });
+        lenient().when(processedMessageRepository.deleteInProgress(anyString())).thenAnswer(invocation -> {
+            ProcessedMessage row = table.get((String) invocation.getArgument(0));
+            return row != null && row.getLeaseUntil() != null && table.remove(row.getMessageId(), row) ? 1 : 0;
+        });
+    }
+}
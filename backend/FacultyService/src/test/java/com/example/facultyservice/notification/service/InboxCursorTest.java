@@ -0,0 +1,62 @@
+package com.example.facultyservice.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Encoding of the opaque inbox cursor handed to clients as nextCursor
+ */
+class InboxCursorTest {
+
+    @Test
+    void cursorRoundTripsTimestampAndId() {
+        InboxCursor cursor = new InboxCursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000), 238_462L);
+
+        assertThat(InboxCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void fullTimestampPrecisionIsKept() {
+        // Rows with the same second must still be told apart by the keyset query
+        InboxCursor nanos = new InboxCursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 123_456_789), 1L);
+        InboxCursor wholeMinute = new InboxCursor(LocalDateTime.of(2025, 3, 14, 9, 26), 2L);
+
+        assertThat(InboxCursor.decode(nanos.encode()).timestamp()).isEqualTo(nanos.timestamp());
+        assertThat(InboxCursor.decode(wholeMinute.encode()).timestamp()).isEqualTo(wholeMinute.timestamp());
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeAndOpaque() {
+        String encoded = new InboxCursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53), 42L).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(encoded).doesNotContain("2025").doesNotContain("|");
+    }
+
+    @Test
+    void invalidCursorIsABadRequest() {
+        for (String cursor : new String[] {
+                "not a cursor!",
+                base64("2025-03-14T09:26:53"),
+                base64("yesterday|42"),
+                base64("2025-03-14T09:26:53|null"),
+                "" }) {
+            assertThatThrownBy(() -> InboxCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.facultyservice.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * X-User-* headers as signed by the gateway's PrincipalHeaderSigner
+ */
+class GatewayPrincipalVerifierTest {
+
+    private static final String HEADER_SECRET = "gateway-header-test-secret";
+
+    private GatewayPrincipalVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new GatewayPrincipalVerifier();
+        ReflectionTestUtils.setField(verifier, "enabled", true);
+        ReflectionTestUtils.setField(verifier, "headerSecret", HEADER_SECRET);
+        verifier.init();
+    }
+
+    @Test
+    void signedHeadersResolveThePrincipal() {
+        long expires = epochSeconds(600);
+
+        VerifiedPrincipal principal = verifier.verify(signed("42", "FACULTY", "prof@uni.edu", expires));
+
+        assertThat(principal).isEqualTo(new VerifiedPrincipal(42L, "FACULTY", "prof@uni.edu", expires * 1000));
+    }
+
+    @Test
+    void missingEmailIsSignedAsEmpty() {
+        MockHttpServletRequest request = signed("42", "FACULTY", "", epochSeconds(600));
+        request.removeHeader("X-User-Email");
+
+        VerifiedPrincipal principal = verifier.verify(request);
+
+        assertThat(principal).isNotNull();
+        assertThat(principal.username()).isNull();
+    }
+
+    @Test
+    void tamperedHeaderIsRejected() {
+        MockHttpServletRequest request = signed("42", "STUDENT", "prof@uni.edu", epochSeconds(600));
+        request.removeHeader("X-User-Role");
+        request.addHeader("X-User-Role", "ADMIN");
+
+        assertThat(verifier.verify(request)).isNull();
+    }
+
+    @Test
+    void headersSignedWithAnotherKeyAreRejected() {
+        MockHttpServletRequest request = signed("42", "FACULTY", "prof@uni.edu", epochSeconds(600));
+        request.removeHeader("X-User-Signature");
+        request.addHeader("X-User-Signature",
+                sign("some-other-secret", "42\nFACULTY\nprof@uni.edu\n" + epochSeconds(600)));
+
+        assertThat(verifier.verify(request)).isNull();
+    }
+
+    @Test
+    void expiredHeadersAreRejected() {
+        assertThat(verifier.verify(signed("42", "FACULTY", "prof@uni.edu", epochSeconds(-1)))).isNull();
+    }
+
+    @Test
+    void malformedOrMissingHeadersAreRejected() {
+        MockHttpServletRequest badSignature = signed("42", "FACULTY", "prof@uni.edu", epochSeconds(600));
+        badSignature.removeHeader("X-User-Signature");
+        badSignature.addHeader("X-User-Signature", "not base64!");
+        assertThat(verifier.verify(badSignature)).isNull();
+
+        assertThat(verifier.verify(signed("abc", "FACULTY", "prof@uni.edu", epochSeconds(600)))).isNull();
+        assertThat(verifier.verify(new MockHttpServletRequest())).isNull();
+    }
+
+    @Test
+    void signedHeadersAreIgnoredWhenTrustIsDisabled() {
+        ReflectionTestUtils.setField(verifier, "enabled", false);
+
+        assertThat(verifier.verify(signed("42", "FACULTY", "prof@uni.edu", epochSeconds(600)))).isNull();
+    }
+
+    private static long epochSeconds(long fromNow) {
+        return System.currentTimeMillis() / 1000 + fromNow;
+    }
+
+    private static MockHttpServletRequest signed(String userId, String role, String email, long expires) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/faculty/api/faculty/42");
+        request.addHeader("X-User-Id", userId);
+        request.addHeader("X-User-Role", role);
+        request.addHeader("X-User-Email", email);
+        request.addHeader("X-User-Expires", String.valueOf(expires));
+        request.addHeader("X-User-Signature",
+                sign(HEADER_SECRET, userId + "\n" + role + "\n" + email + "\n" + expires));
+        return request;
+    }
+
+    /**
+     * Same encoding as PrincipalHeaderSigner: unpadded base64url HMAC-SHA256
+     */
+    private static String sign(String secret, String canonical) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
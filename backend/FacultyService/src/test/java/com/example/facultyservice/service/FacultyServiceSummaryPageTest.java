@@ -0,0 +1,122 @@
+package com.example.facultyservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.facultyservice.dto.FacultySummary;
+import com.example.facultyservice.dto.FacultySummaryPage;
+import com.example.facultyservice.repository.FacultyRepository;
+
+/**
+ * Keyset paging of GET /api/faculty?after=, over an in-memory faculty table
+ */
+@ExtendWith(MockitoExtension.class)
+class FacultyServiceSummaryPageTest {
+
+    @Mock
+    private FacultyRepository facultyRepository;
+
+    // faculty rows in id order; ids have gaps, as after deletes
+    private final List<FacultySummary> table = new ArrayList<>();
+
+    private FacultyService facultyService;
+
+    @BeforeEach
+    void setUp() {
+        for (int id = 1; id <= 250; id++) {
+            if (id % 7 != 0) {
+                table.add(new FacultySummary(id, "Faculty " + id, "CSE", 4.0));
+            }
+        }
+
+        // Same semantics as FacultyRepository.findSummariesAfter: id > after, id order, page size rows
+        lenient().when(facultyRepository.findSummariesAfter(anyInt(), any(Pageable.class))).thenAnswer(invocation -> {
+            int after = invocation.getArgument(0);
+            Pageable limit = invocation.getArgument(1);
+            return table.stream()
+                    .filter(row -> row.getId() > after)
+                    .limit(limit.getPageSize())
+                    .toList();
+        });
+
+        facultyService = new FacultyService();
+        ReflectionTestUtils.setField(facultyService, "facultyRepository", facultyRepository);
+    }
+
+    @Test
+    void walkingTheCursorVisitsEveryFacultyOnceInIdOrder() {
+        List<Integer> seen = new ArrayList<>();
+        int pages = 0;
+
+        FacultySummaryPage page = facultyService.getFacultySummariesAfter(0, 40);
+        while (true) {
+            pages++;
+            page.getItems().forEach(item -> seen.add(item.getId()));
+            assertThat(page.getPage()).isNull();
+            assertThat(page.getTotalElements()).isNull();
+            if (!page.isHasMore()) {
+                break;
+            }
+            assertThat(page.getItems()).hasSize(40);
+            assertThat(page.getNextCursor()).isEqualTo(page.getItems().get(39).getId());
+            page = facultyService.getFacultySummariesAfter(page.getNextCursor(), 40);
+        }
+
+        assertThat(seen).isEqualTo(table.stream().map(FacultySummary::getId).toList());
+        assertThat(pages).isEqualTo((table.size() + 39) / 40);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageEndingExactlyOnTheLastRowHasNoNextCursor() {
+        table.subList(40, table.size()).clear();
+
+        FacultySummaryPage page = facultyService.getFacultySummariesAfter(0, 40);
+
+        assertThat(page.getItems()).hasSize(40);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorPastTheLastIdGivesAnEmptyLastPage() {
+        FacultySummaryPage page = facultyService.getFacultySummariesAfter(250, 20);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageSizeIsClampedAndOneExtraRowIsRequested() {
+        assertThat(facultyService.getFacultySummariesAfter(0, 0).getItems()).hasSize(1);
+        verify(facultyRepository).findSummariesAfter(eq(0), eq(Pageable.ofSize(2)));
+
+        assertThat(facultyService.getFacultySummariesAfter(0, 10_000).getItems()).hasSize(100);
+        verify(facultyRepository).findSummariesAfter(eq(0), eq(Pageable.ofSize(101)));
+    }
+
+    @Test
+    void offsetModeRejectsUnknownSortProperty() {
+        assertThatThrownBy(() -> facultyService.getFacultySummaries(0, 20, "bio,asc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("bio");
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.facultyservice.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.facultyservice.security.VerifiedPrincipal;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Principal cache of JwtUtil: each distinct token is verified once and its
+ * principal is served from the cache until the token expires
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("faculty-service-test-signing-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+
+    private JwtUtil jwtUtil;
+
+    // Delegates to the real parser so signature checks can be counted
+    private JwtParser parser;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100);
+        jwtUtil.init();
+
+        JwtParser real = (JwtParser) ReflectionTestUtils.getField(jwtUtil, "jwtParser");
+        parser = mock(JwtParser.class, AdditionalAnswers.delegatesTo(real));
+        ReflectionTestUtils.setField(jwtUtil, "jwtParser", parser);
+    }
+
+    @Test
+    void principalIsReadFromTheClaims() {
+        long expiresAt = secondsFromNow(3600);
+        String token = token(42, "FACULTY", "prof@uni.edu", expiresAt, KEY);
+
+        VerifiedPrincipal principal = jwtUtil.parsePrincipal(token);
+
+        assertThat(principal).isEqualTo(new VerifiedPrincipal(42L, "FACULTY", "prof@uni.edu", expiresAt));
+    }
+
+    @Test
+    void sameTokenIsVerifiedOnce() {
+        String token = token(42, "FACULTY", "prof@uni.edu", secondsFromNow(3600), KEY);
+
+        jwtUtil.validateToken(token);
+        assertThat(jwtUtil.extractUserId(token)).isEqualTo(42L);
+        assertThat(jwtUtil.extractRole(token)).isEqualTo("FACULTY");
+        assertThat(jwtUtil.extractUsername(token)).isEqualTo("prof@uni.edu");
+        verify(parser, times(1)).parseSignedClaims(anyString());
+
+        String other = token(7, "STUDENT", "student@uni.edu", secondsFromNow(3600), KEY);
+        assertThat(jwtUtil.extractUserId(other)).isEqualTo(7L);
+        verify(parser, times(2)).parseSignedClaims(anyString());
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        SecretKey otherKey = Keys.hmacShaKeyFor("some-other-service-signing-key-0123456789"
+                .getBytes(StandardCharsets.UTF_8));
+        String forged = token(42, "ADMIN", "prof@uni.edu", secondsFromNow(3600), otherKey);
+
+        assertThatThrownBy(() -> jwtUtil.parsePrincipal(forged)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtUtil.parsePrincipal(forged)).isInstanceOf(JwtException.class);
+        verify(parser, times(2)).parseSignedClaims(anyString());
+    }
+
+    @Test
+    void expiredTokenIsRejectedAndNotCached() {
+        String token = token(42, "FACULTY", "prof@uni.edu", secondsFromNow(-60), KEY);
+
+        assertThatThrownBy(() -> jwtUtil.parsePrincipal(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.parsePrincipal(token)).isInstanceOf(ExpiredJwtException.class);
+        verify(parser, times(2)).parseSignedClaims(anyString());
+    }
+
+    @Test
+    void cachedPrincipalIsNotServedPastTokenExpiry() throws InterruptedException {
+        long expiresAt = secondsFromNow(2);
+        String token = token(42, "FACULTY", "prof@uni.edu", expiresAt, KEY);
+
+        assertThat(jwtUtil.extractUserId(token)).isEqualTo(42L);
+
+        Thread.sleep(Math.max(expiresAt - System.currentTimeMillis(), 0) + 100);
+
+        assertThatThrownBy(() -> jwtUtil.parsePrincipal(token)).isInstanceOf(ExpiredJwtException.class);
+        verify(parser, times(2)).parseSignedClaims(anyString());
+    }
+
+    /**
+     * Expiry on a whole second, as it is carried in the "exp" claim
+     */
+    private static long secondsFromNow(long seconds) {
+        return (System.currentTimeMillis() / 1000 + seconds) * 1000;
+    }
+
+    private static String token(int userId, String role, String email, long expiresAt, SecretKey key) {
+        return Jwts.builder()
+                .subject(email)
+                .claim("userId", userId)
+                .claim("role", role)
+                .issuedAt(new Date())
+                .expiration(new Date(expiresAt))
+                .signWith(key)
+                .compact();
+    }
+}
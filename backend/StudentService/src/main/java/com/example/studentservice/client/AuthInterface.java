@@ -1,5 +1,6 @@
 package com.example.studentservice.client;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.cloud.openfeign.FeignClient;
@@ -7,14 +8,25 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.example.studentservice.client.dto.BulkRegistrationResult;
+import com.example.studentservice.client.dto.RegisterRequest;
+
 @FeignClient(name = "auth-service", url = "${auth-service.url:http://localhost:8070}")
 public interface AuthInterface {
 
     @PostMapping("/register")
     ResponseEntity<String> addNewUser(@RequestBody Map<String, Object> user);
 
+    /**
+     * Register up to 500 users and get each row's new user id (faculty token required)
+     */
+    @PostMapping("/auth/api/auth/register/bulk/sync")
+    BulkRegistrationResult registerBulk(@RequestHeader("Authorization") String authorization,
+            @RequestBody List<RegisterRequest> users);
+
     @GetMapping("/validate")
     String validateToken(@RequestParam String token);
 }
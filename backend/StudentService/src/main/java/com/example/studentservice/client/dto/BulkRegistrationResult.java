@@ -0,0 +1,41 @@
+package com.example.studentservice.client.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Response of auth-service's synchronous bulk registration
+ * (the fields of its BulkRegistrationStatus that the import reads)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkRegistrationResult {
+    private int registered;
+    private int skipped;
+    private int failed;
+    private List<RowResult> results = new ArrayList<>();
+
+    public enum Outcome {
+        REGISTERED, SKIPPED, FAILED
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowResult {
+        /** 1-based position in the request */
+        private int row;
+        private String email;
+        private Outcome outcome;
+        private Long userId;
+        private String reason;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.studentservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for the writer side of the XLSX student import
+ */
+@Configuration
+public class StudentImportConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportConfig.class);
+
+    private static final int MAX_CONCURRENT_IMPORTS = 2;
+
+    /**
+     * One writer thread per running import, no queue: an import beyond the
+     * limit is rejected instead of holding its request thread while it waits
+     */
+    @Bean
+    public ThreadPoolTaskExecutor studentImportExecutor() {
+        logger.info("Creating student import executor (max concurrent imports: {})", MAX_CONCURRENT_IMPORTS);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(MAX_CONCURRENT_IMPORTS);
+        executor.setMaxPoolSize(MAX_CONCURRENT_IMPORTS);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("student-import-");
+        executor.initialize();
+        return executor;
+    }
+}
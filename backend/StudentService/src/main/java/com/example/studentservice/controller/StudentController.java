@@ -2,16 +2,24 @@ package com.example.studentservice.controller;
 
 import com.example.studentservice.domain.StudentProject;
 import com.example.studentservice.dto.StudentDashboardDTO;
+import com.example.studentservice.dto.StudentImportReport;
 import com.example.studentservice.dto.StudentProfileDTO;
+import com.example.studentservice.exception.InvalidOperationException;
+import com.example.studentservice.exception.UnauthorizedOperationException;
+import com.example.studentservice.service.StudentImportService;
 import com.example.studentservice.service.StudentService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -23,12 +31,15 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private StudentImportService studentImportService;
+
     @PostConstruct
     public void init() {
         logger.info("=================================================");
         logger.info("StudentController initialized and ready!");
         logger.info("Base path: /student");
-        logger.info("Endpoints: GET /dashboard, GET /projects, GET /profile");
+        logger.info("Endpoints: GET /dashboard, GET /projects, GET /profile, POST /import");
         logger.info("=================================================");
     }
 
@@ -174,4 +185,47 @@ public class StudentController {
             throw e;
         }
     }
+
+    /**
+     * Import students from an XLSX workbook (faculty only)
+     * POST /student/import
+     * Accounts are registered in auth-service with the caller's token
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StudentImportReport> importStudents(
+            @RequestHeader("X-User-Role") String role,
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam("file") MultipartFile file) {
+
+        logger.info("===============================================");
+        logger.info("Controller: POST /student/import");
+        logger.info("File: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+        if (!"FACULTY".equals(role)) {
+            logger.warn("Student import denied for role: {}", role);
+            logger.info("===============================================");
+            throw new UnauthorizedOperationException("Only faculty can import students");
+        }
+        if (file.isEmpty()) {
+            logger.info("===============================================");
+            throw new InvalidOperationException("Uploaded file is empty");
+        }
+
+        try (InputStream workbook = file.getInputStream()) {
+            StudentImportReport report = studentImportService.importStudents(workbook, authorization);
+            logger.info("Import finished - Imported: {}, Duplicates: {}, Failed: {}",
+                    report.getImported(), report.getDuplicates(), report.getFailed());
+            logger.info("===============================================");
+            return ResponseEntity.ok(report);
+
+        } catch (IOException e) {
+            logger.error("Failed to read uploaded file: {}", e.getMessage(), e);
+            logger.info("===============================================");
+            throw new InvalidOperationException("Could not read uploaded file");
+        } catch (Exception e) {
+            logger.error("Student import failed: {}", e.getMessage(), e);
+            logger.info("===============================================");
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.example.studentservice.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.example.studentservice.dto.BulkStatusUpdateRequest;
+import com.example.studentservice.dto.BulkStatusUpdateResult;
+import com.example.studentservice.dto.ProjectStudentDTO;
+import com.example.studentservice.exception.UnauthorizedOperationException;
+import com.example.studentservice.service.StudentProjectBatchService;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Batch endpoints called by FacultyService (StudentInterface)
+ * One request covers up to StudentProjectBatchService.MAX_BATCH_SIZE projects/applications
+ */
+@RestController
+@RequestMapping("/api/studentProject/batch")
+public class StudentProjectBatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentProjectBatchController.class);
+
+    @Autowired
+    private StudentProjectBatchService batchService;
+
+    @PostConstruct
+    public void init() {
+        logger.info("=================================================");
+        logger.info("StudentProjectBatchController initialized and ready!");
+        logger.info("Base path: /api/studentProject/batch");
+        logger.info("Endpoints: POST /student-counts, POST /students, PUT /status");
+        logger.info("=================================================");
+    }
+
+    /**
+     * Application counts per project
+     * POST /api/studentProject/batch/student-counts  body: [projectId, ...]
+     */
+    @PostMapping("/student-counts")
+    public ResponseEntity<Map<Integer, Long>> getStudentCounts(@RequestBody List<Integer> projectIds) {
+        logger.info("Controller: POST /api/studentProject/batch/student-counts - {} projects",
+                projectIds != null ? projectIds.size() : 0);
+        return ResponseEntity.ok(batchService.countStudentsByProjects(projectIds));
+    }
+
+    /**
+     * Applicants per project
+     * POST /api/studentProject/batch/students  body: [projectId, ...]
+     */
+    @PostMapping("/students")
+    public ResponseEntity<Map<Integer, List<ProjectStudentDTO>>> getStudents(@RequestBody List<Integer> projectIds) {
+        logger.info("Controller: POST /api/studentProject/batch/students - {} projects",
+                projectIds != null ? projectIds.size() : 0);
+        return ResponseEntity.ok(batchService.getStudentsByProjects(projectIds));
+    }
+
+    /**
+     * Set one status on many applications (faculty only)
+     * PUT /api/studentProject/batch/status  body: {status, applications: [{studentId, projectId}, ...]}
+     */
+    @PutMapping("/status")
+    public ResponseEntity<BulkStatusUpdateResult> updateStatuses(
+            @RequestHeader("X-User-Role") String role,
+            @RequestBody BulkStatusUpdateRequest request) {
+        logger.info("Controller: PUT /api/studentProject/batch/status - Status: {}", request.getStatus());
+
+        if (!"FACULTY".equals(role)) {
+            logger.warn("Bulk status update denied for role: {}", role);
+            throw new UnauthorizedOperationException("Only faculty can update application statuses");
+        }
+
+        BulkStatusUpdateResult result = batchService.updateStatuses(request);
+        logger.info("Controller: Updated {} of {} applications", result.getUpdated(), result.getRequested());
+        return ResponseEntity.ok(result);
+    }
+}
@@ -14,8 +14,9 @@ import java.util.List;
 @ToString
 @Entity
 public class Student {
+    // Assigned, not generated: the auth-service user id, which every
+    // endpoint reads from X-User-Id. Assigned ids also let Hibernate batch inserts.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int studentId;
 
     private String name;
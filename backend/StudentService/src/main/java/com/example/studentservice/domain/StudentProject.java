@@ -3,15 +3,18 @@ package com.example.studentservice.domain;
 import java.time.LocalDate;
 
 import com.example.studentservice.client.dto.Status;
+import com.example.studentservice.service.StudentProjectChangeListener;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -22,11 +25,21 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@EntityListeners(StudentProjectChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "student_project")
+// Indexes for the repository's access paths (ddl-auto: update creates missing ones).
+// student_student_id is the default name of the student join column.
+@Table(name = "student_project", indexes = {
+        // Applicants of a project, optionally by status
+        @Index(name = "idx_student_project_project_status", columnList = "project_id, status"),
+        // A student's applications in preference order, and MAX(preference)
+        @Index(name = "idx_student_project_student_preference", columnList = "student_student_id, preference"),
+        // Has this student applied to this project
+        @Index(name = "idx_student_project_student_project", columnList = "student_student_id, project_id")
+})
 public class StudentProject {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
@@ -0,0 +1,27 @@
+package com.example.studentservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.studentservice.client.dto.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Set one status on many applications, each identified by student and project
+ */
+@Data
+public class BulkStatusUpdateRequest {
+    private Status status;
+    private List<ApplicationKey> applications = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ApplicationKey {
+        private int studentId;
+        private int projectId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.studentservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Outcome of a bulk status update; notFound lists applications that do not exist
+ */
+@Data
+public class BulkStatusUpdateResult {
+    private int requested;
+    private int updated;
+    private List<BulkStatusUpdateRequest.ApplicationKey> notFound = new ArrayList<>();
+}
@@ -0,0 +1,29 @@
+package com.example.studentservice.dto;
+
+import java.time.LocalDate;
+
+import com.example.studentservice.client.dto.Status;
+import com.example.studentservice.domain.ReportStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One application on the student dashboard, flattened from StudentProject and
+ * its Report by a single JPQL constructor query
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardProjectDTO {
+    private int applicationId;
+    private int projectId;
+    private String projectName;
+    private Status status;
+    private LocalDate applicationDate;
+    private int preference;
+    // Null until a report is uploaded
+    private Integer reportId;
+    private ReportStatus reportStatus;
+}
@@ -0,0 +1,16 @@
+package com.example.studentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of applications for one project (row of the grouped batch count query)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStudentCountDTO {
+    private int projectId;
+    private long count;
+}
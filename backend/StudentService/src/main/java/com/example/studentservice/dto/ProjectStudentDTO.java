@@ -0,0 +1,24 @@
+package com.example.studentservice.dto;
+
+import com.example.studentservice.domain.StudentAvaibility;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A student who applied to a project, as returned by the batch students endpoint
+ *
+ * Field names follow FacultyService's Student so it can deserialize the rows directly.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStudentDTO {
+    private int projectId;
+    private int studentId;
+    private String name;
+    private String email;
+    private Integer semester;
+    private StudentAvaibility studentAvaibility;
+}
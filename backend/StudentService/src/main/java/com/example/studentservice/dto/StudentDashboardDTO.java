@@ -1,6 +1,5 @@
 package com.example.studentservice.dto;
 
-import com.example.studentservice.domain.StudentProject;
 import lombok.Data;
 
 import java.util.List;
@@ -10,5 +9,5 @@ public class StudentDashboardDTO {
     private String studentId;
     private String studentName;
     private int totalProjects;
-    private List<StudentProject> projects;
+    private List<DashboardProjectDTO> projects;
 }
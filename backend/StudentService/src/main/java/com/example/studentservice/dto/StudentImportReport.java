@@ -0,0 +1,28 @@
+package com.example.studentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class StudentImportReport {
+    private int totalRows;
+    private int imported;
+    private int duplicates;
+    private int failed;
+    private long durationMs;
+    // Capped; counts above are always complete
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int rowNumber;
+        private String email;
+        private String reason;
+    }
+}
@@ -2,21 +2,32 @@ package com.example.studentservice.repository;
 
 import com.example.studentservice.client.dto.Status;
 import com.example.studentservice.domain.StudentProject;
+import com.example.studentservice.dto.DashboardProjectDTO;
+import com.example.studentservice.dto.ProjectStudentCountDTO;
+import com.example.studentservice.dto.ProjectStudentDTO;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudentProjectRepository extends JpaRepository<StudentProject, Integer> {
 
-    // ✅ ADDED: String-based lookup
     @Query("SELECT sp FROM StudentProject sp WHERE sp.student.studentId = :studentId")
-    List<StudentProject> findByStudentId(@Param("studentId") String studentId);
+    List<StudentProject> findByStudentId(@Param("studentId") int studentId);
+
+    // Dashboard rows in one query: no entity graph, so no Student/Report loads per row
+    @Query("SELECT new com.example.studentservice.dto.DashboardProjectDTO("
+            + "sp.applicationId, sp.projectId, sp.projectName, sp.status, sp.applicationDate, sp.preference, "
+            + "r.reportId, r.status) "
+            + "FROM StudentProject sp LEFT JOIN sp.report r "
+            + "WHERE sp.student.studentId = :studentId ORDER BY sp.preference ASC")
+    List<DashboardProjectDTO> findDashboardProjects(@Param("studentId") int studentId);
 
     // ✅ ADDED: Long-based ID lookup
     @Query("SELECT sp FROM StudentProject sp WHERE sp.applicationId = :id")
@@ -69,4 +80,22 @@ public interface StudentProjectRepository extends JpaRepository<StudentProject,
 
     @Query("SELECT sp FROM StudentProject sp WHERE sp.projectId = :projectId AND sp.status = :status")
     List<StudentProject> findByProjectIdAndStatus(@Param("projectId") int projectId, @Param("status") Status status);
+
+    // Batch endpoints (StudentProjectBatchService): one query for any number of projects
+
+    @Query("SELECT new com.example.studentservice.dto.ProjectStudentCountDTO(sp.projectId, COUNT(sp)) "
+            + "FROM StudentProject sp WHERE sp.projectId IN :projectIds GROUP BY sp.projectId")
+    List<ProjectStudentCountDTO> countStudentsByProjectIds(@Param("projectIds") Collection<Integer> projectIds);
+
+    @Query("SELECT new com.example.studentservice.dto.ProjectStudentDTO("
+            + "sp.projectId, s.studentId, s.name, s.email, s.semesterNo, s.studentAvaibility) "
+            + "FROM StudentProject sp JOIN sp.student s "
+            + "WHERE sp.projectId IN :projectIds ORDER BY sp.projectId, s.studentId")
+    List<ProjectStudentDTO> findStudentsByProjectIds(@Param("projectIds") Collection<Integer> projectIds);
+
+    // Candidates for a bulk status update; callers keep only the requested (student, project) pairs
+    @Query("SELECT sp FROM StudentProject sp JOIN FETCH sp.student s "
+            + "WHERE sp.projectId IN :projectIds AND s.studentId IN :studentIds")
+    List<StudentProject> findByProjectIdsAndStudentIds(@Param("projectIds") Collection<Integer> projectIds,
+            @Param("studentIds") Collection<Integer> studentIds);
 }
@@ -1,10 +1,12 @@
 package com.example.studentservice.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.studentservice.domain.Student;
@@ -15,6 +17,9 @@ public interface StudentRepository extends JpaRepository<Student, Integer> {
     // ✅ ADDED: String-based lookup with Optional
     Optional<Student> findByStudentId(Integer studentId);
 
+    @Query("SELECT s.name FROM Student s WHERE s.studentId = :studentId")
+    Optional<String> findNameByStudentId(@Param("studentId") int studentId);
+
     // Keep existing int-based method
     Student findStudentByStudentId(int studentId);
 
@@ -31,4 +36,7 @@ public interface StudentRepository extends JpaRepository<Student, Integer> {
 
     @Query("SELECT s.email FROM Student s")
     List<String> findAllEmails();
+
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
@@ -0,0 +1,88 @@
+package com.example.studentservice.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.studentservice.dto.StudentDashboardDTO;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Short-lived per-student cache of dashboard data
+ *
+ * Entries expire after ttl and are evicted as soon as one of the student's
+ * applications changes (see StudentProjectChangeListener), so the TTL only
+ * bounds staleness from writes made outside this service.
+ */
+@Component
+public class StudentDashboardCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentDashboardCache.class);
+
+    @Value("${student.dashboard.cache.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${student.dashboard.cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(StudentDashboardDTO dashboard, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        logger.info("StudentDashboardCache initialized (ttl: {}, max size: {})", ttl, maxSize);
+    }
+
+    /**
+     * @return Cached dashboard, or null if absent or expired
+     */
+    public StudentDashboardDTO get(int studentId) {
+        Entry entry = entries.get(studentId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(studentId, entry);
+            return null;
+        }
+        return entry.dashboard();
+    }
+
+    public void put(int studentId, StudentDashboardDTO dashboard) {
+        if (entries.size() >= maxSize) {
+            // Cheap bound: drop expired entries, then everything if still full
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt() < now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(studentId, new Entry(dashboard, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    /**
+     * Evict a student's entry now and, inside a transaction, again once it
+     * completes, so a read racing the commit cannot leave the old rows cached
+     */
+    public void evict(int studentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.remove(studentId);
+                }
+            });
+        }
+        entries.remove(studentId);
+    }
+}
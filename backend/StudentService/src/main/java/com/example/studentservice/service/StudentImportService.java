@@ -0,0 +1,21 @@
+package com.example.studentservice.service;
+
+import com.example.studentservice.dto.StudentImportReport;
+
+import java.io.InputStream;
+
+public interface StudentImportService {
+
+    /**
+     * Import students from the first sheet of an XLSX workbook
+     * (columns: Name, Email, Password; first row is a header)
+     *
+     * Each row gets an auth-service account (registered with the given
+     * faculty token) and a student record whose id is the new user id.
+     *
+     * @param workbook      XLSX content
+     * @param authorization Authorization header of the importing faculty member
+     * @return Counts and per-row errors
+     */
+    StudentImportReport importStudents(InputStream workbook, String authorization);
+}
@@ -0,0 +1,134 @@
+package com.example.studentservice.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.studentservice.domain.StudentProject;
+import com.example.studentservice.dto.BulkStatusUpdateRequest;
+import com.example.studentservice.dto.BulkStatusUpdateResult;
+import com.example.studentservice.dto.ProjectStudentCountDTO;
+import com.example.studentservice.dto.ProjectStudentDTO;
+import com.example.studentservice.exception.InvalidOperationException;
+import com.example.studentservice.repository.StudentProjectRepository;
+
+/**
+ * StudentProjectBatchService - Multi-project lookups and updates for FacultyService
+ *
+ * Each operation answers a whole list of projects (or applications) with one
+ * query, replacing a remote call per project. Every project asked for is
+ * present in the result, with 0 / an empty list when it has no applications.
+ */
+@Service
+public class StudentProjectBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentProjectBatchService.class);
+
+    // Keeps the IN lists well under PostgreSQL's bind parameter limit
+    public static final int MAX_BATCH_SIZE = 500;
+
+    @Autowired
+    private StudentProjectRepository studentProjectRepository;
+
+    @Transactional(readOnly = true)
+    public Map<Integer, Long> countStudentsByProjects(List<Integer> projectIds) {
+        Set<Integer> ids = validate(projectIds);
+
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        ids.forEach(id -> counts.put(id, 0L));
+        for (ProjectStudentCountDTO row : studentProjectRepository.countStudentsByProjectIds(ids)) {
+            counts.put(row.getProjectId(), row.getCount());
+        }
+        logger.debug("Student counts for {} projects", ids.size());
+        return counts;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Integer, List<ProjectStudentDTO>> getStudentsByProjects(List<Integer> projectIds) {
+        Set<Integer> ids = validate(projectIds);
+
+        Map<Integer, List<ProjectStudentDTO>> students = new LinkedHashMap<>();
+        ids.forEach(id -> students.put(id, new ArrayList<>()));
+        for (ProjectStudentDTO row : studentProjectRepository.findStudentsByProjectIds(ids)) {
+            students.get(row.getProjectId()).add(row);
+        }
+        logger.debug("Students for {} projects", ids.size());
+        return students;
+    }
+
+    /**
+     * Set the requested status on every listed application
+     *
+     * Entities are updated (not a bulk JPQL UPDATE) so StudentProjectChangeListener
+     * still evicts each affected student's dashboard.
+     */
+    @Transactional
+    public BulkStatusUpdateResult updateStatuses(BulkStatusUpdateRequest request) {
+        if (request == null || request.getStatus() == null) {
+            throw new InvalidOperationException("status is required");
+        }
+        List<BulkStatusUpdateRequest.ApplicationKey> keys = request.getApplications() == null ? List.of()
+                : request.getApplications().stream().filter(Objects::nonNull).distinct().toList();
+        if (keys.size() > MAX_BATCH_SIZE) {
+            throw new InvalidOperationException("At most " + MAX_BATCH_SIZE + " applications per request");
+        }
+
+        BulkStatusUpdateResult result = new BulkStatusUpdateResult();
+        result.setRequested(keys.size());
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        Set<Integer> projectIds = new HashSet<>();
+        Set<Integer> studentIds = new HashSet<>();
+        keys.forEach(key -> {
+            projectIds.add(key.getProjectId());
+            studentIds.add(key.getStudentId());
+        });
+
+        Map<BulkStatusUpdateRequest.ApplicationKey, StudentProject> applications = new LinkedHashMap<>();
+        for (StudentProject sp : studentProjectRepository.findByProjectIdsAndStudentIds(projectIds, studentIds)) {
+            applications.put(new BulkStatusUpdateRequest.ApplicationKey(
+                    sp.getStudent().getStudentId(), sp.getProjectId()), sp);
+        }
+
+        int updated = 0;
+        for (BulkStatusUpdateRequest.ApplicationKey key : keys) {
+            StudentProject sp = applications.get(key);
+            if (sp == null) {
+                result.getNotFound().add(key);
+            } else if (sp.getStatus() != request.getStatus()) {
+                sp.setStatus(request.getStatus());
+                updated++;
+            }
+        }
+        result.setUpdated(updated);
+
+        logger.info("Bulk status update to {} - Requested: {}, Updated: {}, Not found: {}",
+                request.getStatus(), keys.size(), updated, result.getNotFound().size());
+        return result;
+    }
+
+    private Set<Integer> validate(List<Integer> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            throw new InvalidOperationException("At least one project id is required");
+        }
+        Set<Integer> ids = new LinkedHashSet<>();
+        projectIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new InvalidOperationException("At most " + MAX_BATCH_SIZE + " project ids per request");
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.studentservice.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.example.studentservice.domain.StudentProject;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on StudentProject: any application insert, status change or
+ * removal evicts the student's cached dashboard
+ *
+ * Instantiated by Hibernate through Spring's bean container, so injection works.
+ * Bulk JPQL updates bypass entity listeners and must evict explicitly.
+ */
+public class StudentProjectChangeListener {
+
+    @Autowired
+    private StudentDashboardCache dashboardCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(StudentProject studentProject) {
+        if (studentProject.getStudent() != null) {
+            dashboardCache.evict(studentProject.getStudent().getStudentId());
+        }
+    }
+}
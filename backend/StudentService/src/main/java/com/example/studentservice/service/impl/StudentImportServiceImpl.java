@@ -0,0 +1,359 @@
+package com.example.studentservice.service.impl;
+
+import com.example.studentservice.client.AuthInterface;
+import com.example.studentservice.client.dto.BulkRegistrationResult;
+import com.example.studentservice.client.dto.BulkRegistrationResult.Outcome;
+import com.example.studentservice.client.dto.BulkRegistrationResult.RowResult;
+import com.example.studentservice.client.dto.RegisterRequest;
+import com.example.studentservice.domain.Student;
+import com.example.studentservice.dto.StudentImportReport;
+import com.example.studentservice.exception.InvalidOperationException;
+import com.example.studentservice.repository.StudentRepository;
+import com.example.studentservice.service.StudentImportService;
+import com.example.studentservice.util.SheetHandler;
+import com.example.studentservice.util.SheetHandler.Row;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming XLSX student import
+ *
+ * The request thread parses the sheet with SheetHandler and puts rows on a
+ * bounded queue; a writer thread drains it in batches. For each batch:
+ * 1. Existing student emails are found with one IN query
+ * 2. The remaining rows are registered in auth-service with one synchronous
+ *    bulk call, made with the importing faculty member's token
+ * 3. Rows that got an account are inserted as students in their own
+ *    transaction, with the auth user id as studentId (the id every student
+ *    endpoint reads from X-User-Id)
+ * Rows rejected by auth-service are reported per row. When the writer falls
+ * behind the parser blocks, so memory stays bounded by the queue size
+ * whatever the size of the workbook.
+ */
+@Service
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportServiceImpl.class);
+
+    // At most auth-service's synchronous bulk registration limit
+    private static final int BATCH_SIZE = 500;
+    private static final int QUEUE_CAPACITY = 2000;
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    // Marks the end of the sheet for the writer thread
+    private static final Row END_OF_SHEET = new Row(-1, null, null, null);
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AuthInterface authInterface;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("studentImportExecutor")
+    private ThreadPoolTaskExecutor importExecutor;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        logger.info("StudentImportService initialized (batch size: {}, queue capacity: {})",
+                BATCH_SIZE, QUEUE_CAPACITY);
+    }
+
+    @Override
+    public StudentImportReport importStudents(InputStream workbook, String authorization) {
+        long startNanos = System.nanoTime();
+        logger.info("Student import started");
+
+        BlockingQueue<Row> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        StudentImportReport report = new StudentImportReport();
+
+        Future<?> writer;
+        try {
+            writer = importExecutor.submit(() -> writeRows(queue, report, authorization));
+        } catch (TaskRejectedException e) {
+            logger.warn("Student import rejected - another import is in progress");
+            throw new InvalidOperationException("Another student import is in progress, try again later");
+        }
+
+        int totalRows = 0;
+        try (OPCPackage pkg = OPCPackage.open(workbook)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            SheetHandler handler = new SheetHandler(
+                    new ReadOnlySharedStringsTable(pkg), row -> enqueue(queue, row, writer));
+
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(handler);
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new InvalidOperationException("Workbook has no sheets");
+            }
+            try (InputStream sheet = sheets.next()) {
+                parser.parse(new InputSource(sheet));
+            }
+            totalRows = handler.getRowCount();
+        } catch (InvalidOperationException | IllegalStateException e) {
+            stopWriter(queue, writer);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Student import: failed to read workbook: {}", e.getMessage(), e);
+            stopWriter(queue, writer);
+            throw new InvalidOperationException("Could not read workbook: " + e.getMessage());
+        }
+
+        finish(queue, writer);
+
+        report.setTotalRows(totalRows);
+        report.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        logger.info("Student import completed in {} ms - Rows: {}, Imported: {}, Duplicates: {}, Failed: {}",
+                report.getDurationMs(), totalRows, report.getImported(), report.getDuplicates(), report.getFailed());
+        return report;
+    }
+
+    private void enqueue(BlockingQueue<Row> queue, Row row, Future<?> writer) {
+        try {
+            while (!queue.offer(row, 1, TimeUnit.SECONDS)) {
+                if (writer.isDone()) {
+                    throw new IllegalStateException("Import writer stopped unexpectedly");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Student import interrupted", e);
+        }
+    }
+
+    private void finish(BlockingQueue<Row> queue, Future<?> writer) {
+        enqueue(queue, END_OF_SHEET, writer);
+        try {
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Student import interrupted", e);
+        } catch (ExecutionException e) {
+            logger.error("Student import: writer failed: {}", e.getCause().getMessage(), e.getCause());
+            throw new IllegalStateException("Student import failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void stopWriter(BlockingQueue<Row> queue, Future<?> writer) {
+        // Rows already queued are discarded; the sheet could not be read to the end
+        queue.clear();
+        writer.cancel(true);
+    }
+
+    /**
+     * Writer thread: drain the queue in batches until the end marker arrives
+     */
+    private void writeRows(BlockingQueue<Row> queue, StudentImportReport report, String authorization) {
+        List<Row> batch = new ArrayList<>(BATCH_SIZE);
+        Set<String> seenEmails = new HashSet<>();
+
+        try {
+            while (true) {
+                Row row = queue.take();
+                if (row == END_OF_SHEET) {
+                    break;
+                }
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    writeBatch(batch, seenEmails, report, authorization);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch, seenEmails, report, authorization);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Student import: writer interrupted");
+        }
+    }
+
+    private void writeBatch(List<Row> rows, Set<String> seenEmails, StudentImportReport report,
+            String authorization) {
+        List<Row> candidates = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String problem = validate(row);
+            if (problem != null) {
+                report.setFailed(report.getFailed() + 1);
+                addError(report, row, problem);
+            } else if (!seenEmails.add(row.email())) {
+                report.setDuplicates(report.getDuplicates() + 1);
+                addError(report, row, "Duplicate email in file");
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // One set-based lookup per batch instead of preloading every email
+        if (!candidates.isEmpty()) {
+            List<String> emails = candidates.stream().map(Row::email).toList();
+            Set<String> existing = new HashSet<>(studentRepository.findExistingEmails(emails));
+            if (!existing.isEmpty()) {
+                candidates.removeIf(row -> {
+                    if (existing.contains(row.email())) {
+                        report.setDuplicates(report.getDuplicates() + 1);
+                        addError(report, row, "Email already registered");
+                        return true;
+                    }
+                    return false;
+                });
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Map<Row, Integer> userIds = register(candidates, report, authorization);
+        List<Row> registered = candidates.stream().filter(userIds::containsKey).toList();
+        if (registered.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                registered.forEach(row -> entityManager.persist(toStudent(row, userIds.get(row))));
+                entityManager.flush();
+            });
+            report.setImported(report.getImported() + registered.size());
+            logger.debug("Student import: batch of {} inserted", registered.size());
+        } catch (Exception e) {
+            // Isolate the failing rows so one bad row does not drop the whole batch
+            logger.warn("Student import: batch insert failed ({}), retrying {} rows individually",
+                    e.getMessage(), registered.size());
+            for (Row row : registered) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        entityManager.persist(toStudent(row, userIds.get(row)));
+                        entityManager.flush();
+                    });
+                    report.setImported(report.getImported() + 1);
+                } catch (Exception rowError) {
+                    report.setFailed(report.getFailed() + 1);
+                    addError(report, row, "Account " + userIds.get(row)
+                            + " created but student insert failed: " + rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Create the auth-service accounts of a batch
+     *
+     * @return Auth user id per registered row; every other row is reported
+     */
+    private Map<Row, Integer> register(List<Row> rows, StudentImportReport report, String authorization) {
+        List<RegisterRequest> requests = rows.stream()
+                .map(row -> new RegisterRequest(row.email(), row.password(), row.name(), "STUDENT"))
+                .toList();
+
+        BulkRegistrationResult result;
+        try {
+            result = authInterface.registerBulk(authorization, requests);
+        } catch (Exception e) {
+            logger.warn("Student import: auth registration of {} rows failed: {}", rows.size(), e.getMessage());
+            for (Row row : rows) {
+                report.setFailed(report.getFailed() + 1);
+                addError(report, row, "Auth registration failed: " + e.getMessage());
+            }
+            return Map.of();
+        }
+
+        Map<Integer, RowResult> byPosition = new HashMap<>();
+        if (result != null && result.getResults() != null) {
+            result.getResults().forEach(r -> byPosition.put(r.getRow(), r));
+        }
+
+        Map<Row, Integer> userIds = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            RowResult outcome = byPosition.get(i + 1);
+            if (outcome == null) {
+                report.setFailed(report.getFailed() + 1);
+                addError(report, row, "Auth registration returned no result");
+            } else if (outcome.getOutcome() == Outcome.REGISTERED && outcome.getUserId() != null) {
+                userIds.put(row, Math.toIntExact(outcome.getUserId()));
+            } else if (outcome.getOutcome() == Outcome.SKIPPED) {
+                report.setDuplicates(report.getDuplicates() + 1);
+                addError(report, row, "Auth account exists: " + outcome.getReason());
+            } else {
+                report.setFailed(report.getFailed() + 1);
+                addError(report, row, "Auth registration failed: " + outcome.getReason());
+            }
+        }
+        return userIds;
+    }
+
+    private String validate(Row row) {
+        if (row.email() == null) {
+            return "Email is required";
+        }
+        if (row.email().indexOf('@') < 1) {
+            return "Invalid email";
+        }
+        if (row.name() == null) {
+            return "Name is required";
+        }
+        if (row.password() == null) {
+            return "Password is required";
+        }
+        return null;
+    }
+
+    private Student toStudent(Row row, int userId) {
+        Student student = new Student();
+        student.setStudentId(userId);
+        student.setName(row.name());
+        student.setEmail(row.email());
+        return student;
+    }
+
+    private void addError(StudentImportReport report, Row row, String reason) {
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new StudentImportReport.RowError(row.rowNumber(), row.email(), reason));
+        }
+    }
+}
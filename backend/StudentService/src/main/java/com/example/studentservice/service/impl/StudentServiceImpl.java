@@ -2,10 +2,13 @@ package com.example.studentservice.service.impl;
 
 import com.example.studentservice.domain.Student;
 import com.example.studentservice.domain.StudentProject;
+import com.example.studentservice.dto.DashboardProjectDTO;
 import com.example.studentservice.dto.StudentDashboardDTO;
 import com.example.studentservice.dto.StudentProfileDTO;
+import com.example.studentservice.exception.ResourceNotFoundException;
 import com.example.studentservice.repository.StudentProjectRepository;
 import com.example.studentservice.repository.StudentRepository;
+import com.example.studentservice.service.StudentDashboardCache;
 import com.example.studentservice.service.StudentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,23 +30,35 @@ public class StudentServiceImpl implements StudentService {
     @Autowired
     private StudentProjectRepository studentProjectRepository;
 
+    @Autowired
+    private StudentDashboardCache dashboardCache;
+
     @Override
+    @Transactional(readOnly = true)
     public StudentDashboardDTO getDashboard(String studentId) {
         logger.info("Fetching dashboard data for student: {}", studentId);
 
         try {
-            Integer studentIdInt = Integer.parseInt(studentId);
-            Student student = studentRepository.findByStudentId(studentIdInt)
-                    .orElseThrow(() -> new RuntimeException("Student not found: " + studentId));
+            int studentIdInt = Integer.parseInt(studentId);
+
+            StudentDashboardDTO cached = dashboardCache.get(studentIdInt);
+            if (cached != null) {
+                logger.debug("Dashboard cache hit for student: {}", studentId);
+                return cached;
+            }
+
+            String studentName = studentRepository.findNameByStudentId(studentIdInt)
+                    .orElseThrow(() -> new ResourceNotFoundException("Student not found: " + studentId));
 
-            // ✅ FIXED: Use correct repository method
-            List<StudentProject> projects = studentProjectRepository.findByStudentId(studentId);
+            // Flat rows from one query instead of entities with eager Student/Report graphs
+            List<DashboardProjectDTO> projects = studentProjectRepository.findDashboardProjects(studentIdInt);
 
             StudentDashboardDTO dashboard = new StudentDashboardDTO();
             dashboard.setStudentId(studentId);
-            dashboard.setStudentName(student.getName());
+            dashboard.setStudentName(studentName);
             dashboard.setTotalProjects(projects.size());
             dashboard.setProjects(projects);
+            dashboardCache.put(studentIdInt, dashboard);
 
             logger.info("Dashboard data fetched successfully for student: {}", studentId);
             return dashboard;
@@ -59,8 +74,7 @@ public class StudentServiceImpl implements StudentService {
         logger.info("Fetching projects for student: {}", studentId);
 
         try {
-            // ✅ FIXED: Use correct repository method
-            List<StudentProject> projects = studentProjectRepository.findByStudentId(studentId);
+            List<StudentProject> projects = studentProjectRepository.findByStudentId(Integer.parseInt(studentId));
             logger.info("Found {} projects for student: {}", projects.size(), studentId);
             return projects;
 
@@ -1,117 +1,141 @@
 package com.example.studentservice.util;
 
-import com.example.studentservice.client.dto.UserCredential;
-import com.example.studentservice.client.dto.UserRole;
-import com.example.studentservice.domain.Student;
-import com.example.studentservice.repository.StudentRepository;
-
 import org.apache.poi.xssf.model.SharedStrings;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
+import java.util.function.Consumer;
+
+/**
+ * SAX handler for student spreadsheets
+ *
+ * Expected columns (first row is a header and is skipped):
+ * A = Name, B = Email, C = Password
+ *
+ * Rows are not collected here: each completed row is handed to the sink as
+ * soon as its end tag is read, so memory use does not grow with the sheet.
+ * Duplicate and validity checks are left to the consumer of the rows.
+ */
 public class SheetHandler extends DefaultHandler {
+
+    /**
+     * One parsed spreadsheet row; blank cells are null
+     *
+     * @param rowNumber 1-based row number as shown in the spreadsheet
+     */
+    public record Row(int rowNumber, String name, String email, String password) {
+    }
+
+    private static final int NAME_COLUMN = 0;
+    private static final int EMAIL_COLUMN = 1;
+    private static final int PASSWORD_COLUMN = 2;
+
     private final SharedStrings sst;
-    private final List<Student> students;
-    private final List<UserCredential> users;
+    private final Consumer<Row> sink;
+
+    // Reused for every cell; SAX may deliver a value in several chunks
+    private final StringBuilder contents = new StringBuilder(64);
 
-    private String lastContents;
-    private boolean nextIsString;
+    private String cellType;
+    private int column;
+    private int nextColumn;
+    private boolean inDataRow;
+    private int rowNumber;
     private int rowCount = 0;
-    private int colCount = 0;
-    private Student currentStudent;
-    private UserCredential currentUser;
-    private String duplicateEmail = null;
 
-    // Cache to minimize database lookups
-    private Set<String> emailCache = new HashSet<>();
+    private String name;
+    private String email;
+    private String password;
 
-    public SheetHandler(SharedStrings sst, List<Student> students, List<UserCredential> users, StudentRepository StudentRepository) {
+    public SheetHandler(SharedStrings sst, Consumer<Row> sink) {
         this.sst = sst;
-        this.students = students;
-        this.users = users;
-
-        // Prefetch all emails to avoid repeated DB calls
-        StudentRepository.findAllEmails().forEach(emailCache::add);
+        this.sink = sink;
     }
 
+    @Override
     public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
         // Clear contents from previous element
-        lastContents = "";
+        contents.setLength(0);
 
-        // Handle row start
         if (name.equals("row")) {
-            int rowNum = Integer.parseInt(attributes.getValue("r"));
-            if (rowNum > 1) { // Skip header row
-                rowCount++;
-                colCount = 0;
-                currentStudent = new Student();
-                currentUser = new UserCredential();
-                currentUser.setUserRole(UserRole.STUDENT);
-            }
-        }
-
-        // Handle cell data type
-        else if (name.equals("c")) {
-            String cellType = attributes.getValue("t");
-            nextIsString = cellType != null && cellType.equals("s");
+            String ref = attributes.getValue("r");
+            rowNumber = ref != null ? Integer.parseInt(ref) : rowNumber + 1;
+            inDataRow = rowNumber > 1; // Skip header row
+            nextColumn = 0;
+            this.name = null;
+            this.email = null;
+            this.password = null;
+        } else if (name.equals("c")) {
+            cellType = attributes.getValue("t");
+            // Empty cells are omitted from the XML, so take the column from the cell reference
+            String ref = attributes.getValue("r");
+            column = ref != null ? columnIndex(ref) : nextColumn;
+            nextColumn = column + 1;
         }
     }
 
+    @Override
     public void endElement(String uri, String localName, String name) throws SAXException {
-        // Process cell value at row > 1 (skip header)
-        if (name.equals("v") && currentStudent != null) {
-            String value;
-            if (nextIsString) {
-                int idx = Integer.parseInt(lastContents);
-                value = sst.getItemAt(idx).getString(); // Changed from getItemAt to getEntryAt
-            } else {
-                value = lastContents;
-            }
-
-            // Process based on column number
-            switch (colCount) {
-                case 0: // Name
-                    currentStudent.setName(value);
-                    break;
-                case 1: // Email
-                    String email = value;
-                    if (emailCache.contains(email)) {
-                        duplicateEmail = email;
-                    } else {
-                        emailCache.add(email);
-                        currentStudent.setEmail(email);
-                        currentUser.setUsername(email);
-                    }
-                    break;
-                case 2: // Password
-                    currentUser.setPassword(value);
-                    break;
-            }
-            colCount++;
+        if (!inDataRow) {
+            return;
         }
-        // At end of row, add completed faculty and user to lists
-        else if (name.equals("row") && currentStudent != null && currentStudent.getEmail() != null) {
-            if (duplicateEmail == null) {
-                students.add(currentStudent);
-                users.add(currentUser);
+
+        // <v> holds plain and shared-string values, <t> holds inline strings
+        if (name.equals("v") || (name.equals("t") && "inlineStr".equals(cellType))) {
+            setCell(column, cellValue());
+        } else if (name.equals("row")) {
+            inDataRow = false;
+            if (this.name != null || email != null || password != null) {
+                rowCount++;
+                sink.accept(new Row(rowNumber, this.name, email, password));
             }
         }
     }
 
+    @Override
     public void characters(char[] ch, int start, int length) throws SAXException {
-        lastContents += new String(ch, start, length);
+        contents.append(ch, start, length);
     }
 
+    /**
+     * @return Number of non-blank data rows handed to the sink
+     */
     public int getRowCount() {
         return rowCount;
     }
 
-    public String getDuplicateEmail() {
-        return duplicateEmail;
+    private String cellValue() {
+        String value = "s".equals(cellType)
+                ? sst.getItemAt(Integer.parseInt(contents.toString().trim())).getString()
+                : contents.toString();
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private void setCell(int column, String value) {
+        switch (column) {
+            case NAME_COLUMN -> this.name = value;
+            case EMAIL_COLUMN -> this.email = value;
+            case PASSWORD_COLUMN -> this.password = value;
+            default -> {
+                // Extra columns are ignored
+            }
+        }
+    }
+
+    /**
+     * Convert the letters of a cell reference ("C12") to a 0-based column index
+     */
+    private static int columnIndex(String cellRef) {
+        int index = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char c = cellRef.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            index = index * 26 + (c - 'A' + 1);
+        }
+        return index - 1;
     }
-}
\ No newline at end of file
+}
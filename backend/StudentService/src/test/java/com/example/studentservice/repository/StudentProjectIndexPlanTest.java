@@ -0,0 +1,109 @@
+package com.example.studentservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * EXPLAIN regression test for the student_project indexes: the dashboard and
+ * assignment queries must be planned as index scans on the indexes declared
+ * on StudentProject, not as sequential scans of the table.
+ *
+ * The SQL mirrors what Hibernate generates for the StudentProjectRepository
+ * queries named on each test.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+class StudentProjectIndexPlanTest {
+
+    private static final int STUDENTS = 2000;
+    private static final int PROJECTS = 400;
+    private static final int APPLICATIONS_PER_STUDENT = 10;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        // Rolled back after each test together with the data
+        entityManager.createNativeQuery("INSERT INTO student (student_id, name, email, ratings) "
+                + "SELECT g, 'Student ' || g, 'student' || g || '@uni.edu', 0 "
+                + "FROM generate_series(1, " + STUDENTS + ") g").executeUpdate();
+        // Every student applies to APPLICATIONS_PER_STUDENT distinct projects, preference 0..n-1
+        entityManager.createNativeQuery("INSERT INTO student_project "
+                + "(student_student_id, project_id, project_name, status, application_date, preference) "
+                + "SELECT g % " + STUDENTS + " + 1, "
+                + "((g % " + STUDENTS + ") * 7 + g / " + STUDENTS + ") % " + PROJECTS + " + 1, "
+                + "'Project', CASE WHEN g % 5 = 0 THEN 'APPROVED' ELSE 'PENDING' END, CURRENT_DATE, "
+                + "g / " + STUDENTS + " "
+                + "FROM generate_series(0, " + (STUDENTS * APPLICATIONS_PER_STUDENT - 1) + ") g").executeUpdate();
+        entityManager.createNativeQuery("ANALYZE student").executeUpdate();
+        entityManager.createNativeQuery("ANALYZE student_project").executeUpdate();
+        entityManager.createNativeQuery("ANALYZE report").executeUpdate();
+    }
+
+    // findDashboardProjects
+    @Test
+    void dashboardQueryUsesStudentPreferenceIndex() {
+        String plan = explain("SELECT sp.application_id, sp.project_id, sp.project_name, sp.status, "
+                + "sp.application_date, sp.preference, r.report_id, r.status "
+                + "FROM student_project sp LEFT JOIN report r ON r.application_id = sp.application_id "
+                + "WHERE sp.student_student_id = 42 ORDER BY sp.preference");
+
+        assertThat(plan).contains("idx_student_project_student_preference");
+        assertThat(plan).doesNotContain("Seq Scan on student_project");
+    }
+
+    // findMaxPreferenceByStudentId
+    @Test
+    void maxPreferenceUsesStudentPreferenceIndex() {
+        String plan = explain("SELECT MAX(sp.preference) FROM student_project sp WHERE sp.student_student_id = 42");
+
+        assertThat(plan).contains("idx_student_project_student_preference");
+        assertThat(plan).doesNotContain("Seq Scan on student_project");
+    }
+
+    // findStudentIdByProjectIdAndStatus, findByProjectIdAndStatus
+    @Test
+    void applicantsByStatusUseProjectStatusIndex() {
+        String plan = explain("SELECT sp.student_student_id FROM student_project sp "
+                + "WHERE sp.project_id = 7 AND sp.status = 'APPROVED'");
+
+        assertThat(plan).contains("idx_student_project_project_status");
+        assertThat(plan).doesNotContain("Seq Scan on student_project");
+    }
+
+    // existsByStudent_StudentIdAndProjectId, findByStudent_StudentIdAndProjectId
+    @Test
+    void applicationLookupUsesStudentProjectIndex() {
+        String plan = explain("SELECT sp.application_id FROM student_project sp "
+                + "WHERE sp.student_student_id = 42 AND sp.project_id = 295 LIMIT 1");
+
+        assertThat(plan).contains("idx_student_project_student_project");
+        assertThat(plan).doesNotContain("Seq Scan on student_project");
+    }
+
+    private String explain(String sql) {
+        @SuppressWarnings("unchecked")
+        List<Object> lines = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+        return lines.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.studentservice.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.studentservice.client.AuthInterface;
+import com.example.studentservice.client.dto.BulkRegistrationResult;
+import com.example.studentservice.client.dto.BulkRegistrationResult.Outcome;
+import com.example.studentservice.client.dto.BulkRegistrationResult.RowResult;
+import com.example.studentservice.client.dto.RegisterRequest;
+import com.example.studentservice.config.StudentImportConfig;
+import com.example.studentservice.domain.Student;
+import com.example.studentservice.dto.StudentImportReport;
+import com.example.studentservice.repository.StudentRepository;
+import com.example.studentservice.service.StudentDashboardCache;
+
+/**
+ * Runs the XLSX import against PostgreSQL with auth-service mocked, then looks
+ * the students up by the id StudentController reads from X-User-Id
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ StudentImportServiceImpl.class, StudentImportConfig.class, StudentDashboardCache.class })
+@Testcontainers
+// The writer thread commits its own transactions; the test must not hold one open
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudentImportServiceImplTest {
+
+    private static final String AUTHORIZATION = "Bearer faculty-token";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private StudentImportServiceImpl importService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @MockitoBean
+    private AuthInterface authInterface;
+
+    @Test
+    void importedStudentIsFoundByAuthUserId() throws IOException {
+        when(authInterface.registerBulk(eq(AUTHORIZATION), anyList())).thenAnswer(invocation -> {
+            List<RegisterRequest> users = invocation.getArgument(1);
+            List<RowResult> results = new ArrayList<>();
+            for (int i = 0; i < users.size(); i++) {
+                RegisterRequest user = users.get(i);
+                results.add(user.getEmail().startsWith("taken")
+                        ? new RowResult(i + 1, user.getEmail(), Outcome.SKIPPED, null, "Email already registered")
+                        : new RowResult(i + 1, user.getEmail(), Outcome.REGISTERED, 9000L + i, null));
+            }
+            return new BulkRegistrationResult(users.size() - 1, 1, 0, results);
+        });
+
+        byte[] workbook = workbook(
+                new String[] { "Asha", "asha@uni.edu", "secret-1" },
+                new String[] { "Ravi", "ravi@uni.edu", "secret-2" },
+                new String[] { "Taken", "taken@uni.edu", "secret-3" },
+                new String[] { "NoPassword", "nopass@uni.edu", null });
+
+        StudentImportReport report = importService.importStudents(new ByteArrayInputStream(workbook), AUTHORIZATION);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getDuplicates()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors())
+                .extracting(StudentImportReport.RowError::getEmail)
+                .containsExactlyInAnyOrder("taken@uni.edu", "nopass@uni.edu");
+
+        Student asha = studentRepository.findStudentByStudentId(9000);
+        assertThat(asha).isNotNull();
+        assertThat(asha.getEmail()).isEqualTo("asha@uni.edu");
+        assertThat(studentRepository.findByStudentId(9001))
+                .map(Student::getName)
+                .contains("Ravi");
+        assertThat(studentRepository.findByEmail("taken@uni.edu")).isEmpty();
+    }
+
+    @Test
+    void rowsAreReportedWhenAuthRegistrationFails() throws IOException {
+        when(authInterface.registerBulk(eq(AUTHORIZATION), anyList()))
+                .thenThrow(new IllegalStateException("auth-service unavailable"));
+
+        byte[] workbook = workbook(new String[] { "Mira", "mira@uni.edu", "secret" });
+
+        StudentImportReport report = importService.importStudents(new ByteArrayInputStream(workbook), AUTHORIZATION);
+
+        assertThat(report.getImported()).isZero();
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors().get(0).getReason()).startsWith("Auth registration failed");
+        assertThat(studentRepository.findByEmail("mira@uni.edu")).isEmpty();
+    }
+
+    private static byte[] workbook(String[]... rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Students");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Email");
+            header.createCell(2).setCellValue("Password");
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                for (int column = 0; column < rows[i].length; column++) {
+                    if (rows[i][column] != null) {
+                        row.createCell(column).setCellValue(rows[i][column]);
+                    }
+                }
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}
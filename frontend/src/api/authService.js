@@ -105,8 +105,12 @@ class AuthService {
                 { refreshToken }
             );
 
-            const { accessToken } = response.data;
+            // Refresh tokens rotate - the previous one is now spent
+            const { accessToken, refreshToken: nextRefreshToken } = response.data;
             this.setAccessToken(accessToken);
+            if (nextRefreshToken) {
+                localStorage.setItem('refreshToken', nextRefreshToken);
+            }
 
             console.log('✅ Token refreshed successfully');
             return accessToken;
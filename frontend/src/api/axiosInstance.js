@@ -142,6 +142,36 @@ axiosInstance.interceptors.request.use(
 );
 
 
+// In-flight refresh, shared by all requests that fail with 401 at the same time.
+// Refresh tokens rotate on every use and re-presenting a rotated token revokes
+// the whole family, so only one refresh call may be made per expiry.
+let refreshPromise = null;
+
+const refreshTokens = (refreshToken) => {
+  if (!refreshPromise) {
+    refreshPromise = axios
+      .post(`${API_BASE_URL}/api/auth/refresh`, { refreshToken })
+      .then((response) => {
+        const { accessToken, refreshToken: nextRefreshToken, user } = response.data;
+
+        // Update tokens and user data (refresh tokens rotate on every use)
+        localStorage.setItem('token', accessToken);
+        localStorage.setItem('accessToken', accessToken);
+        if (nextRefreshToken) {
+          localStorage.setItem('refreshToken', nextRefreshToken);
+        }
+        if (user) {
+          localStorage.setItem('user', JSON.stringify(user));
+        }
+        return { accessToken, user };
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
 // Response Interceptor
 axiosInstance.interceptors.response.use(
   (response) => {
@@ -165,18 +195,13 @@ axiosInstance.interceptors.response.use(
         const refreshToken = localStorage.getItem('refreshToken');
 
         if (refreshToken) {
-          const response = await axios.post(
-            `${API_BASE_URL}/api/auth/refresh`,
-            { refreshToken }
-          );
-
-          const { accessToken, user } = response.data;
-
-          // Update tokens and user data
-          localStorage.setItem('token', accessToken);
-          if (user) {
-            localStorage.setItem('user', JSON.stringify(user));
-          }
+          // A refresh that finished after this request was sent already has a newer token
+          const currentToken = localStorage.getItem('accessToken');
+          const sentToken = originalRequest.headers.Authorization?.replace('Bearer ', '');
+          // Otherwise every concurrent 401 waits on the same refresh call
+          const { accessToken, user } = currentToken && sentToken && currentToken !== sentToken
+            ? { accessToken: currentToken, user: getUserFromStorage() }
+            : await refreshTokens(refreshToken);
 
           // Retry original request with new token
           originalRequest.headers.Authorization = `Bearer ${accessToken}`;
@@ -31,6 +31,7 @@ const API_ENDPOINTS = {
         // Base CRUD operations
         BASE: '/api/faculty',                         // GET - Get all faculty
         LIST: '/api/faculty',                         // GET - Same as BASE
+        SUMMARIES: '/api/faculty/summaries',          // GET - Paged summaries (?page&size&sort or ?after&size)
         GET_BY_ID: (id) => `/api/faculty/${id}`,     // GET - Get faculty by ID
         GET_BY_EMAIL: (email) => `/api/faculty/email/${email}`, // GET - Get faculty by email
         CREATE: '/api/faculty',                       // POST - Create new faculty
@@ -43,6 +44,15 @@ const API_ENDPOINTS = {
         EXISTS: (email) => `/api/faculty/exists/${email}`, // GET - Check if faculty exists
     },
 
+    // ========================================
+    // Search Endpoints (Faculty Service)
+    // Backend: SearchController.java @RequestMapping("/api/search")
+    // ========================================
+    SEARCH: {
+        QUERY: '/api/search',                         // GET - ?q&type&skills&status&page&size
+        REINDEX: '/api/search/reindex',               // POST - Rebuild index (faculty)
+    },
+
     // ========================================
     // Project Service Endpoints (Faculty Service)
     // Backend: ProjectController.java
@@ -106,9 +116,13 @@ const API_ENDPOINTS = {
     // Backend: NotificationController.java @RequestMapping("/api/notifications")
     // ========================================
     NOTIFICATIONS: {
-        SEND: '/api/notifications/send',              // POST - Send single notification
-        SEND_MULTIPLE: '/api/notifications/sendToMultiple', // POST - Send to multiple receivers
-        GET_BY_RECEIVER: (receiverId) => `/api/notifications/${receiverId}`, // GET - Get notifications
+        SEND: '/api/notifications/send',              // POST - Queue single notification (202, eventId)
+        SEND_MULTIPLE: '/api/notifications/sendToMultiple', // POST - Queue for multiple receivers (202, eventId)
+        SEND_BULK: '/api/notifications/bulk', // POST - Receivers in body, queued (202, eventId)
+        GET_BY_RECEIVER: (receiverId) => `/api/notifications/${receiverId}`, // GET - All notifications
+        INBOX: (receiverId) => `/api/notifications/${receiverId}/inbox`, // GET - Inbox page (?cursor=&limit=)
+        UNSEEN_COUNT: (receiverId) => `/api/notifications/${receiverId}/unseen-count`, // GET - Unseen count
+        MARK_SEEN: (receiverId) => `/api/notifications/${receiverId}/seen`, // PUT - Mark ids as seen
         MARK_READ: (id) => `/api/notifications/${id}/read`, // PUT - Mark as read
         MARK_ALL_READ: (receiverId) => `/api/notifications/${receiverId}/read-all`, // PUT - Mark all read
     },